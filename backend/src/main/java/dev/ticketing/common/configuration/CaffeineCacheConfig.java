@@ -1,22 +1,62 @@
 package dev.ticketing.common.configuration;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CaffeineCacheConfig {
 
+    // 좌석 상태 변경 시 Pub/Sub 으로 무효화되므로 TTL 은 무효화 유실 대비용으로 길게 둠
+    @Value("${seat.status.cache.caffeine-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 이 시간이 지난 뒤 조회되면 이전 값을 반환하면서 백그라운드로 재적재 (Stale-While-Revalidate)
+    @Value("${seat.status.cache.caffeine-refresh-seconds:5}")
+    private long refreshSeconds;
+
+    @Value("${seat.status.cache.refresh-threads:4}")
+    private int refreshThreads;
+
+    @Value("${seat.status.cache.near-ttl-ms:1000}")
+    private long nearTtlMillis;
+
     @Bean
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("allocationStatusSnapShot");
+    public CacheManager caffeineCacheManager(ObjectProvider<CacheLoader<Object, Object>> cacheLoader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(60, TimeUnit.SECONDS)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .refreshAfterWrite(refreshSeconds, TimeUnit.SECONDS)
+                .executor(cacheRefreshExecutor())
                 .maximumSize(1000));
+        // 로더가 있으면 LoadingCache 로 생성 (refreshAfterWrite 는 로더가 있어야 동작)
+        cacheLoader.ifAvailable(cacheManager::setCacheLoader);
+        cacheManager.setCacheNames(List.of("allocationStatusSnapShot"));
+        // tiered 전략의 L1: 짧은 TTL 로 노드 간 불일치 시간을 제한
+        cacheManager.registerCustomCache("allocationStatusSnapShotNear", Caffeine.newBuilder()
+                .expireAfterWrite(nearTtlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(1000)
+                .build());
         return cacheManager;
     }
+
+    // 재적재(DB 조회)가 공용 ForkJoinPool 을 점유하지 않도록 전용 스레드 사용 (컨텍스트 종료 시 shutdown)
+    // 기본 후보에서 제외하여 Spring Boot 의 applicationTaskExecutor 자동 구성이 물러나지 않도록 함
+    @Bean(destroyMethod = "shutdown", defaultCandidate = false)
+    public ExecutorService cacheRefreshExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(refreshThreads, threadFactory);
+    }
 }
@@ -1,5 +1,6 @@
 package dev.ticketing.common.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,10 @@ import java.time.Duration;
 @EnableCaching
 public class RedisCacheConfig {
 
+    // 좌석 상태 변경 시 Pub/Sub 으로 무효화되므로 TTL 은 무효화 유실 대비용으로 길게 둠
+    @Value("${seat.status.cache.redis-ttl-minutes:60}")
+    private long ttlMinutes;
+
     @Bean
     @org.springframework.context.annotation.Primary
     public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
@@ -39,7 +44,7 @@ public class RedisCacheConfig {
         GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
 
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(Duration.ofMinutes(ttlMinutes))
                 .disableCachingNullValues()
                 .serializeKeysWith(fromSerializer(keySerializer))
                 .serializeValuesWith(fromSerializer(valueSerializer));
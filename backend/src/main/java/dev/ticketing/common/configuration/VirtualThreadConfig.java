@@ -0,0 +1,24 @@
+package dev.ticketing.common.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreadType;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * VirtualThreadConfig - 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ *
+ * Tomcat 요청 처리, @Scheduled, SSE 전송은 Spring Boot 가 가상 스레드로 전환한다.
+ * DB 동시 사용 수는 Hikari 풀 크기(maximum-pool-size)와 connection-timeout 대기가 그대로 제한하므로 별도 제한을 두지 않고,
+ * 여기서는 캐리어 스레드 고정(pinning)을 감지하여 로그와 지표로 남긴다 (고정 자체를 막지는 않음).
+ */
+@Configuration
+@ConditionalOnThreadType(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.ticketing.common.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * VirtualThreadPinningMonitor - 가상 스레드 캐리어 고정(pinning) 감지
+ *
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 붙잡아
+ * 다른 가상 스레드가 실행되지 못한다. JFR jdk.VirtualThreadPinned 이벤트를 구독하여
+ * 고정된 위치를 로그로 남기고 virtual.thread.pinned 카운터로 집계한다.
+ * 감지 전용이며 고정을 막거나 해소하지는 않으므로, 경고가 나오면 해당 위치를 ReentrantLock 등으로 바꿔야 한다.
+ */
+@Slf4j
+class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int STACK_DEPTH = 8;
+
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("virtual.thread.pinned")
+                .description("가상 스레드 캐리어 고정 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}ms", THRESHOLD.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        log.warn("Virtual thread pinned: duration={}ms{}", event.getDuration().toMillis(), stackTrace);
+    }
+}
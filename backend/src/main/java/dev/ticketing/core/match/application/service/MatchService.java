@@ -1,6 +1,7 @@
 package dev.ticketing.core.match.application.service;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import dev.ticketing.core.match.application.port.in.CreateMatchUseCase;
 import dev.ticketing.core.match.application.port.in.DeleteMatchUseCase;
@@ -19,14 +20,14 @@ import dev.ticketing.core.match.application.service.exception.MatchAlreadyOpenEx
 import dev.ticketing.core.match.application.service.exception.MatchNotFoundException;
 import dev.ticketing.core.match.domain.Match;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
-import dev.ticketing.core.site.application.port.out.persistence.hierarchy.LoadSeatPort;
-import dev.ticketing.core.site.domain.allocation.Allocation;
-import dev.ticketing.core.site.domain.hierarchy.Seat;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.RecordAllocationStatusViewPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -35,8 +36,8 @@ public class MatchService implements GetMatchesUseCase, GetMatchUseCase,
 
     private final LoadMatchPort loadMatchPort;
     private final RecordMatchPort recordMatchPort;
-    private final LoadSeatPort loadSeatPort;
     private final RecordAllocationPort recordAllocationPort;
+    private final RecordAllocationStatusViewPort recordAllocationStatusViewPort;
 
     @Override
     public MatchListResponse getMatches(final GetMatchesQuery query) {
@@ -103,15 +104,16 @@ public class MatchService implements GetMatchesUseCase, GetMatchUseCase,
         Match savedMatch = recordMatchPort.record(openedMatch);
 
         prePopulateAllocations(savedMatch.getId());
+        recordAllocationStatusViewPort.recordAllocationStatusView(savedMatch.getId());
 
         return MatchResponse.from(savedMatch);
     }
 
     private void prePopulateAllocations(final Long matchId) {
-        List<Seat> allSeats = loadSeatPort.loadAllSeats();
-        List<Allocation> allocations = allSeats.stream()
-                .map(seat -> Allocation.availableForMatch(matchId, seat.getBlockId(), seat.getId()))
-                .toList();
-        recordAllocationPort.saveAll(allocations);
+        // 좌석을 읽어 행 단위로 저장하지 않고 INSERT ... SELECT 한 문장으로 생성 (경기 잠금 보유 시간 단축)
+        long startedAt = System.nanoTime();
+        int created = recordAllocationPort.recordAvailableAllocationsForMatch(matchId);
+        log.info("좌석 할당 생성: matchId={}, count={}, elapsedMs={}",
+                matchId, created, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
     }
 }
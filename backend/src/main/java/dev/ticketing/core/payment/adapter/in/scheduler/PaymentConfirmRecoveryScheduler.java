@@ -0,0 +1,44 @@
+package dev.ticketing.core.payment.adapter.in.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.payment.application.port.in.RecoverPaymentUseCase;
+
+/**
+ * PaymentConfirmRecoveryScheduler - 승인 결과가 확정되지 않은 결제를 주기적으로 복구
+ *
+ * - PG 호출 이후 결과 기록 전 장애(프로세스 종료, DB 오류 등)로 IN_PROGRESS 에 남은 결제가 대상
+ * - 진행 중인 정상 요청과 겹치지 않도록 stale-after-ms 보다 오래된 결제만 처리
+ * - 승인 취소 호출이 실패해 CANCEL_PENDING 에 남은 결제의 PG 승인 취소를 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmRecoveryScheduler {
+
+    private final RecoverPaymentUseCase recoverPaymentUseCase;
+
+    @Value("${payment.confirm.recovery.stale-after-ms:60000}")
+    private long staleAfterMillis;
+
+    @Scheduled(fixedDelayString = "${payment.confirm.recovery.interval-ms:30000}")
+    public void recoverInProgressPayments() {
+        int recovered = recoverPaymentUseCase.recoverInProgressPayments(
+                LocalDateTime.now().minus(Duration.ofMillis(staleAfterMillis)));
+        if (recovered > 0) {
+            log.info("미확정 결제 복구: count={}", recovered);
+        }
+        int cancelled = recoverPaymentUseCase.recoverCancelPendingPayments();
+        if (cancelled > 0) {
+            log.info("승인 취소 대기 결제 취소: count={}", cancelled);
+        }
+    }
+}
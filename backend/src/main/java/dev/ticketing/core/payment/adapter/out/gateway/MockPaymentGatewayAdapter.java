@@ -0,0 +1,141 @@
+package dev.ticketing.core.payment.adapter.out.gateway;
+
+import dev.ticketing.core.payment.application.port.out.gateway.PaymentGatewayPort;
+import dev.ticketing.core.payment.application.service.exception.PaymentGatewayTimeoutException;
+import dev.ticketing.core.payment.domain.PaymentApprovalStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MockPaymentGatewayAdapter - 실제 PG 없이 승인 지연/실패/타임아웃을 재현하는 PG 시뮬레이터 (payment.mock.enabled=true)
+ *
+ * - 지연 분포: fixed(fixed-delay-ms), uniform(min~max-delay-ms),
+ *   long-tail(uniform 에 tail-probability 확률로 tail-delay-ms 까지의 지연 추가)
+ * - 승인 거절: success-rate 확률로 승인, 나머지는 false 반환 (승인 여부는 paymentKey 로 결정)
+ * - 타임아웃: 지연이 timeout-ms 를 넘거나 timeout-rate 확률로, timeout-ms 만큼 기다린 뒤 예외.
+ *   PG 측에서는 승인되었을 수 있으므로 복구 시 loadPaymentApprovalStatus 로 승인 여부를 응답
+ * - 승인 조회: 승인 요청을 받은 결제의 결과만 응답하고, 요청 기록이 없으면 UNKNOWN
+ * - 조회 실패: lookup-failure-rate 확률로 승인 조회가 UNKNOWN 을 반환 (복구 보류 경로 재현)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.mock.enabled", havingValue = "true")
+public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
+
+    @Value("${payment.mock.success-rate:0.9}")
+    private double successRate;
+
+    @Value("${payment.mock.latency.distribution:uniform}")
+    private String distribution;
+
+    @Value("${payment.mock.latency.fixed-delay-ms:500}")
+    private long fixedDelayMillis;
+
+    @Value("${payment.mock.latency.min-delay-ms:500}")
+    private long minDelayMillis;
+
+    @Value("${payment.mock.latency.max-delay-ms:2000}")
+    private long maxDelayMillis;
+
+    @Value("${payment.mock.latency.tail-probability:0.01}")
+    private double tailProbability;
+
+    @Value("${payment.mock.latency.tail-delay-ms:10000}")
+    private long tailDelayMillis;
+
+    @Value("${payment.mock.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    @Value("${payment.mock.timeout-rate:0.0}")
+    private double timeoutRate;
+
+    @Value("${payment.mock.lookup-failure-rate:0.0}")
+    private double lookupFailureRate;
+
+    // PG 측 승인 기록 (paymentKey -> 승인/거절/취소 결과, 응답 타임아웃이어도 기록됨)
+    private final Map<String, PaymentApprovalStatus> approvals = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean executePayment(String paymentKey, String orderId, Integer amount) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = nextDelayMillis(random);
+        boolean approved = orderId != null && amount != null && isApproved(paymentKey);
+        boolean timedOut = delayMillis > timeoutMillis || random.nextDouble() < timeoutRate;
+        if (paymentKey != null) {
+            approvals.put(paymentKey, approved ? PaymentApprovalStatus.APPROVED : PaymentApprovalStatus.DECLINED);
+        }
+
+        if (timedOut) {
+            // 응답은 받지 못했지만 PG 측 승인 결과는 남음 (복구 스케줄러가 조회)
+            sleep(timeoutMillis);
+            log.warn("[MockPG] 결제 승인 타임아웃: paymentKey={}, timeoutMs={}, approved={}",
+                    paymentKey, timeoutMillis, approved);
+            throw new PaymentGatewayTimeoutException(paymentKey, timeoutMillis);
+        }
+
+        sleep(delayMillis);
+        log.debug("[MockPG] 결제 승인 응답: paymentKey={}, delayMs={}, approved={}", paymentKey, delayMillis, approved);
+        return approved;
+    }
+
+    @Override
+    public PaymentApprovalStatus loadPaymentApprovalStatus(String paymentKey) {
+        PaymentApprovalStatus status;
+        if (paymentKey == null || ThreadLocalRandom.current().nextDouble() < lookupFailureRate) {
+            status = PaymentApprovalStatus.UNKNOWN;
+        } else {
+            status = approvals.getOrDefault(paymentKey, PaymentApprovalStatus.UNKNOWN);
+        }
+        log.info("[MockPG] 결제 승인 조회: paymentKey={}, status={}", paymentKey, status);
+        return status;
+    }
+
+    @Override
+    public void cancelPayment(String paymentKey, String cancelReason) {
+        if (paymentKey == null) {
+            throw new IllegalArgumentException("Payment key cannot be null");
+        }
+        sleep(nextDelayMillis(ThreadLocalRandom.current()));
+        approvals.put(paymentKey, PaymentApprovalStatus.DECLINED);
+        log.info("[MockPG] 결제 취소 완료: paymentKey={}, cancelReason={}", paymentKey, cancelReason);
+    }
+
+    // paymentKey 로 시드를 정해 같은 키의 재요청이 같은 결과를 보도록 함 (String.hashCode 는 JVM 간 동일)
+    private boolean isApproved(String paymentKey) {
+        return paymentKey != null && new SplittableRandom(paymentKey.hashCode()).nextDouble() < successRate;
+    }
+
+    private long nextDelayMillis(ThreadLocalRandom random) {
+        return switch (distribution) {
+            case "fixed" -> fixedDelayMillis;
+            case "uniform" -> uniform(random, minDelayMillis, maxDelayMillis);
+            case "long-tail" -> random.nextDouble() < tailProbability
+                    ? uniform(random, maxDelayMillis, tailDelayMillis)
+                    : uniform(random, minDelayMillis, maxDelayMillis);
+            default -> throw new IllegalStateException("Unknown payment.mock.latency.distribution: " + distribution);
+        };
+    }
+
+    private long uniform(ThreadLocalRandom random, long min, long max) {
+        return max > min ? random.nextLong(min, max + 1) : min;
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayTimeoutException("interrupted", millis);
+        }
+    }
+}
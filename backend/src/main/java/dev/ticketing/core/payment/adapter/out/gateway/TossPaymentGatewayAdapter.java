@@ -1,34 +1,78 @@
 package dev.ticketing.core.payment.adapter.out.gateway;
 
 import dev.ticketing.core.payment.application.port.out.gateway.PaymentGatewayPort;
+import dev.ticketing.core.payment.domain.PaymentApprovalStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "payment.mock.enabled", havingValue = "false", matchIfMissing = true)
 public class TossPaymentGatewayAdapter implements PaymentGatewayPort {
 
+    // 시뮬레이션 PG 측 승인 기록 (paymentKey -> 승인/거절/취소 결과)
+    private final Map<String, PaymentApprovalStatus> approvals = new ConcurrentHashMap<>();
+
     @Override
     public boolean executePayment(String paymentKey, String orderId, Integer amount) {
         log.info("[TossPG] 결제 승인 요청: paymentKey={}, orderId={}, amount={}", paymentKey, orderId, amount);
 
         // Toss Payments 시뮬레이션
         // 특정 키워드가 포함된 경우 실패 처리 (테스트 용도)
-        if (paymentKey != null && paymentKey.contains("fail")) {
+        if (isDeclinedKey(paymentKey)) {
             log.warn("[TossPG] 결제 승인 거절 (Simulated Failure): 잔액 부족 등의 사유");
+            approvals.put(paymentKey, PaymentApprovalStatus.DECLINED);
             return false;
         }
 
         // 입력값 검증 (Null Check)
         if (paymentKey == null || orderId == null || amount == null) {
             log.error("[TossPG] 결제 승인 실패: 필수 값 누락");
+            if (paymentKey != null) {
+                approvals.put(paymentKey, PaymentApprovalStatus.DECLINED);
+            }
             return false;
         }
 
         // 성공 처리
+        approvals.put(paymentKey, PaymentApprovalStatus.APPROVED);
         log.info("[TossPG] 결제 승인 완료: transactionId={}", UUID.randomUUID());
         return true;
     }
+
+    /**
+     * 결제 조회 (GET /v1/payments/{paymentKey}) 시뮬레이션
+     * - 승인 요청을 받아 기록한 결과만 돌려주며, 기록이 없으면 (승인 요청 전 중단 등) UNKNOWN
+     * - 시뮬레이션 기록은 프로세스 재시작 시 사라지므로 재시작 이전 결제는 UNKNOWN 으로 남아 운영 확인 대상
+     */
+    @Override
+    public PaymentApprovalStatus loadPaymentApprovalStatus(String paymentKey) {
+        PaymentApprovalStatus status = paymentKey == null
+                ? PaymentApprovalStatus.UNKNOWN
+                : approvals.getOrDefault(paymentKey, PaymentApprovalStatus.UNKNOWN);
+        log.info("[TossPG] 결제 승인 조회: paymentKey={}, status={}", paymentKey, status);
+        return status;
+    }
+
+    /**
+     * 결제 취소 (POST /v1/payments/{paymentKey}/cancel) 시뮬레이션
+     * - 취소된 결제는 이후 조회에서 DECLINED
+     */
+    @Override
+    public void cancelPayment(String paymentKey, String cancelReason) {
+        if (paymentKey == null) {
+            throw new IllegalArgumentException("Payment key cannot be null");
+        }
+        approvals.put(paymentKey, PaymentApprovalStatus.DECLINED);
+        log.info("[TossPG] 결제 취소 완료: paymentKey={}, cancelReason={}", paymentKey, cancelReason);
+    }
+
+    private boolean isDeclinedKey(String paymentKey) {
+        return paymentKey != null && paymentKey.contains("fail");
+    }
 }
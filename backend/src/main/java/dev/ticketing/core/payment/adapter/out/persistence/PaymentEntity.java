@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PaymentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,6 +44,8 @@ public class PaymentEntity {
     private String paymentTransactionId;
     private LocalDateTime createdAt;
     private LocalDateTime paidAt;
+    private LocalDateTime confirmRequestedAt;
+    private LocalDateTime reservationHoldExpiresAt;
 
     public static PaymentEntity from(final Payment payment) {
         PaymentEntity entity = new PaymentEntity();
@@ -54,6 +58,8 @@ public class PaymentEntity {
         entity.paymentTransactionId = payment.getPaymentTransactionId();
         entity.createdAt = payment.getCreatedAt();
         entity.paidAt = payment.getPaidAt();
+        entity.confirmRequestedAt = payment.getConfirmRequestedAt();
+        entity.reservationHoldExpiresAt = payment.getReservationHoldExpiresAt();
         return entity;
     }
 
@@ -67,6 +73,8 @@ public class PaymentEntity {
                 paymentGatewayProvider,
                 paymentTransactionId,
                 createdAt,
-                paidAt);
+                paidAt,
+                confirmRequestedAt,
+                reservationHoldExpiresAt);
     }
 }
@@ -3,9 +3,12 @@ package dev.ticketing.core.payment.adapter.out.persistence;
 import dev.ticketing.core.payment.application.port.out.persistence.LoadPaymentPort;
 import dev.ticketing.core.payment.application.port.out.persistence.RecordPaymentPort;
 import dev.ticketing.core.payment.domain.Payment;
+import dev.ticketing.core.payment.domain.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -24,6 +27,26 @@ public class PaymentPersistenceAdapter implements LoadPaymentPort, RecordPayment
         return paymentRepository.findByReservationId(reservationId).map(PaymentEntity::toDomain);
     }
 
+    @Override
+    public Optional<Payment> loadByIdWithLock(final Long paymentId) {
+        return paymentRepository.findByIdWithLock(paymentId).map(PaymentEntity::toDomain);
+    }
+
+    @Override
+    public List<Payment> loadInProgressPaymentsRequestedBefore(final LocalDateTime requestedBefore) {
+        return paymentRepository.findByStatusAndConfirmRequestedAtBefore(PaymentStatus.IN_PROGRESS, requestedBefore)
+                .stream()
+                .map(PaymentEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Payment> loadCancelPendingPayments() {
+        return paymentRepository.findByStatus(PaymentStatus.CANCEL_PENDING).stream()
+                .map(PaymentEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Payment record(final Payment payment) {
         return paymentRepository.save(PaymentEntity.from(payment)).toDomain();
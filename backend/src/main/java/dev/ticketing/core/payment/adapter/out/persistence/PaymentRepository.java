@@ -1,8 +1,24 @@
 package dev.ticketing.core.payment.adapter.out.persistence;
 
+import dev.ticketing.core.payment.domain.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<PaymentEntity, Long> {
     Optional<PaymentEntity> findByReservationId(Long reservationId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PaymentEntity p WHERE p.id = :id")
+    Optional<PaymentEntity> findByIdWithLock(@Param("id") Long id);
+
+    List<PaymentEntity> findByStatus(PaymentStatus status);
+
+    List<PaymentEntity> findByStatusAndConfirmRequestedAtBefore(PaymentStatus status, LocalDateTime requestedBefore);
 }
@@ -0,0 +1,21 @@
+package dev.ticketing.core.payment.application.port.in;
+
+import java.time.LocalDateTime;
+
+public interface RecoverPaymentUseCase {
+
+    /**
+     * 승인 요청 후 결과가 확정되지 않은(IN_PROGRESS) 결제를 PG 승인 결과로 확정한다
+     *
+     * @param requestedBefore 이 시각 이전에 승인 요청된 결제만 대상
+     * @return 확정한 결제 수
+     */
+    int recoverInProgressPayments(LocalDateTime requestedBefore);
+
+    /**
+     * PG 승인 이후 좌석을 잃어 승인 취소를 기다리는(CANCEL_PENDING) 결제의 PG 승인을 취소한다
+     *
+     * @return 취소(REFUNDED)한 결제 수
+     */
+    int recoverCancelPendingPayments();
+}
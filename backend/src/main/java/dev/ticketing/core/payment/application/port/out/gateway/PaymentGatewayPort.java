@@ -1,5 +1,19 @@
 package dev.ticketing.core.payment.application.port.out.gateway;
 
+import dev.ticketing.core.payment.domain.PaymentApprovalStatus;
+
 public interface PaymentGatewayPort {
     boolean executePayment(String paymentKey, String orderId, Integer amount);
+
+    /**
+     * PG 승인 결과 조회 (승인 요청 이후 결과를 기록하지 못한 결제 복구용)
+     * - 프로세스 재시작과 무관하게 PG 기준 상태를 돌려주며, 알 수 없으면 UNKNOWN
+     */
+    PaymentApprovalStatus loadPaymentApprovalStatus(String paymentKey);
+
+    /**
+     * PG 승인 취소 (승인 이후 예약 좌석을 잃은 결제 환불용)
+     * - 이미 취소된 결제도 취소 완료로 응답하며, 취소 여부를 알 수 없으면 예외
+     */
+    void cancelPayment(String paymentKey, String cancelReason);
 }
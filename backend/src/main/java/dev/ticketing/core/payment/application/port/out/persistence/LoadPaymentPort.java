@@ -2,10 +2,27 @@ package dev.ticketing.core.payment.application.port.out.persistence;
 
 import dev.ticketing.core.payment.domain.Payment;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoadPaymentPort {
     Optional<Payment> loadById(Long paymentId);
 
     Optional<Payment> loadByReservationId(Long reservationId);
+
+    /**
+     * 결제 상태 전이용 잠금 조회 (동시 승인/복구 요청 직렬화)
+     */
+    Optional<Payment> loadByIdWithLock(Long paymentId);
+
+    /**
+     * 승인 요청 후 결과가 확정되지 않은 결제 (복구 대상)
+     */
+    List<Payment> loadInProgressPaymentsRequestedBefore(LocalDateTime requestedBefore);
+
+    /**
+     * PG 승인 이후 좌석을 잃어 승인 취소를 기다리는 결제 (복구 대상)
+     */
+    List<Payment> loadCancelPendingPayments();
 }
@@ -0,0 +1,11 @@
+package dev.ticketing.core.payment.application.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PaymentGatewayTimeoutException extends PaymentException {
+
+    public PaymentGatewayTimeoutException(final String paymentKey, final long timeoutMillis) {
+        super(String.format("Payment gateway timed out after %dms: paymentKey=%s", timeoutMillis, paymentKey),
+                HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
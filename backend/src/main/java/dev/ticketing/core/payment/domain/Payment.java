@@ -20,6 +20,8 @@ public class Payment {
     private String paymentTransactionId;
     private LocalDateTime createdAt;
     private LocalDateTime paidAt;
+    private LocalDateTime confirmRequestedAt;
+    private LocalDateTime reservationHoldExpiresAt;
 
     public static Payment create(final Long reservationId, final Integer amount, final String method) {
         validate(reservationId, amount, method);
@@ -35,7 +37,8 @@ public class Payment {
     public static Payment withId(final Long id, final Long reservationId, final Integer amount, final String method,
             final PaymentStatus status,
             final String paymentGatewayProvider, final String paymentTransactionId, final LocalDateTime createdAt,
-            final LocalDateTime paidAt) {
+            final LocalDateTime paidAt, final LocalDateTime confirmRequestedAt,
+            final LocalDateTime reservationHoldExpiresAt) {
         validate(reservationId, amount, method);
         return Payment.builder()
                 .id(id)
@@ -47,6 +50,8 @@ public class Payment {
                 .paymentTransactionId(paymentTransactionId)
                 .createdAt(createdAt)
                 .paidAt(paidAt)
+                .confirmRequestedAt(confirmRequestedAt)
+                .reservationHoldExpiresAt(reservationHoldExpiresAt)
                 .build();
     }
 
@@ -62,6 +67,28 @@ public class Payment {
         }
     }
 
+    /**
+     * PG 승인 요청 직전 상태 (승인 결과가 확정되지 않은 채 남으면 복구 대상)
+     *
+     * @param reservationHoldExpiresAt 승인 동안 연장하기 전의 예약 좌석 점유 만료 시각 (승인 거절 시 복원)
+     */
+    public Payment markInProgress(final String provider, final String transactionId,
+            final LocalDateTime reservationHoldExpiresAt) {
+        return Payment.builder()
+                .id(this.id)
+                .reservationId(this.reservationId)
+                .amount(this.amount)
+                .method(this.method)
+                .status(PaymentStatus.IN_PROGRESS)
+                .paymentGatewayProvider(provider)
+                .paymentTransactionId(transactionId)
+                .createdAt(this.createdAt)
+                .paidAt(null)
+                .confirmRequestedAt(LocalDateTime.now())
+                .reservationHoldExpiresAt(reservationHoldExpiresAt)
+                .build();
+    }
+
     public Payment markPaid(final String provider, final String transactionId) {
         return Payment.builder()
                 .id(this.id)
@@ -73,6 +100,8 @@ public class Payment {
                 .paymentTransactionId(transactionId)
                 .createdAt(this.createdAt)
                 .paidAt(LocalDateTime.now())
+                .confirmRequestedAt(this.confirmRequestedAt)
+                .reservationHoldExpiresAt(this.reservationHoldExpiresAt)
                 .build();
     }
 
@@ -87,6 +116,43 @@ public class Payment {
                 .paymentTransactionId(transactionId)
                 .createdAt(this.createdAt)
                 .paidAt(null)
+                .confirmRequestedAt(this.confirmRequestedAt)
+                .reservationHoldExpiresAt(this.reservationHoldExpiresAt)
+                .build();
+    }
+
+    /**
+     * PG 승인 이후 좌석을 잃어 승인 취소가 필요한 상태 (취소 호출이 실패해도 복구 스케줄러가 다시 취소)
+     */
+    public Payment markCancelPending() {
+        return Payment.builder()
+                .id(this.id)
+                .reservationId(this.reservationId)
+                .amount(this.amount)
+                .method(this.method)
+                .status(PaymentStatus.CANCEL_PENDING)
+                .paymentGatewayProvider(this.paymentGatewayProvider)
+                .paymentTransactionId(this.paymentTransactionId)
+                .createdAt(this.createdAt)
+                .paidAt(null)
+                .confirmRequestedAt(this.confirmRequestedAt)
+                .reservationHoldExpiresAt(this.reservationHoldExpiresAt)
+                .build();
+    }
+
+    public Payment markRefunded() {
+        return Payment.builder()
+                .id(this.id)
+                .reservationId(this.reservationId)
+                .amount(this.amount)
+                .method(this.method)
+                .status(PaymentStatus.REFUNDED)
+                .paymentGatewayProvider(this.paymentGatewayProvider)
+                .paymentTransactionId(this.paymentTransactionId)
+                .createdAt(this.createdAt)
+                .paidAt(null)
+                .confirmRequestedAt(this.confirmRequestedAt)
+                .reservationHoldExpiresAt(this.reservationHoldExpiresAt)
                 .build();
     }
 }
@@ -0,0 +1,21 @@
+package dev.ticketing.core.payment.domain;
+
+/**
+ * PG 승인 결과 조회 상태
+ */
+public enum PaymentApprovalStatus {
+    /**
+     * PG 에서 승인 완료
+     */
+    APPROVED,
+
+    /**
+     * PG 에서 승인 거절 (또는 승인 요청이 취소/만료됨)
+     */
+    DECLINED,
+
+    /**
+     * 조회 실패 등으로 승인 여부를 알 수 없음 (결제를 IN_PROGRESS 로 유지하고 다음 복구에서 다시 조회)
+     */
+    UNKNOWN
+}
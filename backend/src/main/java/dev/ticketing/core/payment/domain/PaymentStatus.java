@@ -9,6 +9,11 @@ public enum PaymentStatus {
      */
     PENDING,
 
+    /**
+     * 결제 승인 진행 중 (PG 승인 요청 이후 결과 확정 전)
+     */
+    IN_PROGRESS,
+
     /**
      * 결제 완료
      */
@@ -19,6 +24,11 @@ public enum PaymentStatus {
      */
     FAILED,
 
+    /**
+     * PG 승인 이후 예약 좌석을 잃어 승인 취소 대기 중 (취소 완료 시 REFUNDED)
+     */
+    CANCEL_PENDING,
+
     /**
      * 결제 취소/환불
      */
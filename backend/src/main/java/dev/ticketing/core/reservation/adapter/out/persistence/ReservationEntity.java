@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -26,7 +27,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ReservationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,12 +42,15 @@ public class ReservationEntity {
     @Enumerated(EnumType.STRING)
     private ReservationStatus status;
 
+    private Integer seatCount;
+
     public static ReservationEntity from(final Reservation reservation) {
         ReservationEntity entity = new ReservationEntity();
         entity.id = reservation.getId();
         entity.user = UserEntity.fromId(reservation.getUserId());
         entity.match = MatchEntity.fromId(reservation.getMatchId());
         entity.status = reservation.getStatus();
+        entity.seatCount = reservation.getSeatCount();
         return entity;
     }
 
@@ -60,6 +65,7 @@ public class ReservationEntity {
                 id,
                 user != null ? user.getId() : null,
                 match != null ? match.getId() : null,
-                status);
+                status,
+                seatCount);
     }
 }
@@ -10,6 +10,7 @@ import dev.ticketing.core.reservation.application.port.out.persistence.RecordRes
 import dev.ticketing.core.reservation.domain.Reservation;
 import dev.ticketing.core.reservation.domain.ReservationStatus;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LockAllocationPort;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
 import dev.ticketing.core.site.domain.allocation.Allocation;
 import dev.ticketing.core.reservation.application.service.exception.ReservationHoldExpiredException;
@@ -18,7 +19,7 @@ import dev.ticketing.core.site.application.service.exception.AllocationNotFoundE
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,10 +33,17 @@ public class ReservationService implements CreateReservationUseCase {
     private final LoadAllocationPort loadAllocationPort;
     private final RecordAllocationPort recordAllocationPort;
     private final LoadMatchPort loadMatchPort;
+    private final LockAllocationPort lockAllocationPort;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public Reservation createReservation(final CreateReservationCommand command) {
+        // 좌석 잠금을 트랜잭션 시작 전에 획득하여 잠금 대기 동안 DB 커넥션을 점유하지 않음 (메모리 엔진)
+        return lockAllocationPort.executeWithSeatLocks(command.matchId(), command.seatIds(),
+                () -> transactionTemplate.execute(status -> reserve(command)));
+    }
+
+    private Reservation reserve(final CreateReservationCommand command) {
         final Long userId = command.userId();
         final Long matchId = command.matchId();
         final List<Long> seatIds = command.seatIds();
@@ -48,30 +56,20 @@ public class ReservationService implements CreateReservationUseCase {
             throw new MatchNotOpenException(matchId);
         }
 
-        // 1. Verify all allocationStatuses are held by the user
-        for (final Long seatId : seatIds) {
-            final Allocation allocation = loadAllocationPort.loadAllocationByMatchAndSeatWithLock(matchId, seatId)
-                    .orElseThrow(() -> new AllocationNotFoundException(matchId, seatId));
-
-            if (!allocation.isHeldBy(userId)) {
-                throw new ReservationSeatNotHeldException(seatId, userId);
-            }
-
-            if (allocation.getHoldExpiresAt() != null && allocation.getHoldExpiresAt().isBefore(LocalDateTime.now())) {
-                throw new ReservationHoldExpiredException(seatId);
-            }
-        }
-
-        // 2. Create Reservation (PENDING)
-        final Reservation reservation = Reservation.create(userId, matchId, ReservationStatus.PENDING);
+        // 1. Create Reservation (PENDING)
+        final List<Long> distinctSeatIds = seatIds.stream().distinct().toList();
+        final Reservation reservation = Reservation.create(userId, matchId, ReservationStatus.PENDING,
+                distinctSeatIds.size());
         final Reservation savedReservation = recordReservationPort.record(reservation);
 
-        // 3. Update Allocations with Reservation ID
-        for (final Long seatId : seatIds) {
-            final Allocation allocation = loadAllocationPort.loadAllocationByMatchAndSeatWithLock(matchId, seatId)
-                    .orElseThrow(() -> new AllocationNotFoundException(matchId, seatId));
-            final Allocation updatedAllocation = allocation.assignReservation(savedReservation.getId());
-            recordAllocationPort.recordAllocation(updatedAllocation);
+        // 2. Assign Reservation ID only to allocationStatuses held by the user (single conditional UPDATE)
+        final LocalDateTime now = LocalDateTime.now();
+        final int assigned = distinctSeatIds.isEmpty() ? 0 : recordAllocationPort.recordReservationAssignments(
+                savedReservation.getId(), userId, matchId, distinctSeatIds, now);
+
+        // 3. Some seats failed the condition: find the reason and roll back
+        if (assigned != distinctSeatIds.size()) {
+            throwReservationFailure(userId, matchId, distinctSeatIds, now);
         }
 
         // 4. Return reservation with seatIds for API response
@@ -82,4 +80,22 @@ public class ReservationService implements CreateReservationUseCase {
                 savedReservation.getStatus(),
                 seatIds);
     }
+
+    private void throwReservationFailure(final Long userId, final Long matchId, final List<Long> seatIds,
+            final LocalDateTime now) {
+        for (final Long seatId : seatIds) {
+            final Allocation allocation = loadAllocationPort.loadAllocationByMatchAndSeatWithLock(matchId, seatId)
+                    .orElseThrow(() -> new AllocationNotFoundException(matchId, seatId));
+
+            if (!allocation.isHeldBy(userId)) {
+                throw new ReservationSeatNotHeldException(seatId, userId);
+            }
+
+            if (allocation.getHoldExpiresAt() != null && allocation.getHoldExpiresAt().isBefore(now)) {
+                throw new ReservationHoldExpiredException(seatId);
+            }
+        }
+        // 검증 사이에 상태가 바뀐 경우 (예: 동시 만료 처리)
+        throw new ReservationSeatNotHeldException(seatIds.get(0), userId);
+    }
 }
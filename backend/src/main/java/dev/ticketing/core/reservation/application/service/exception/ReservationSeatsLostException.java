@@ -0,0 +1,11 @@
+package dev.ticketing.core.reservation.application.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ReservationSeatsLostException extends ReservationException {
+
+    public ReservationSeatsLostException(final Long reservationId, final Integer seatCount, final int heldSeatCount) {
+        super(String.format("Reservation %d holds %d of %s seats", reservationId, heldSeatCount,
+                seatCount != null ? seatCount : "?"), HttpStatus.CONFLICT);
+    }
+}
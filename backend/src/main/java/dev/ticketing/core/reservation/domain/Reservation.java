@@ -16,24 +16,29 @@ public class Reservation {
     private Long matchId;
     private ReservationStatus status;
     private List<Long> seatIds;
+    // 예약 생성 시 좌석 수 (좌석 수를 기록하기 전에 생성된 예약은 null)
+    private Integer seatCount;
 
-    public static Reservation create(final Long userId, final Long matchId, final ReservationStatus status) {
+    public static Reservation create(final Long userId, final Long matchId, final ReservationStatus status,
+            final Integer seatCount) {
         validate(userId, matchId, status);
         return Reservation.builder()
                 .userId(userId)
                 .matchId(matchId)
                 .status(status)
+                .seatCount(seatCount)
                 .build();
     }
 
     public static Reservation withId(final Long id, final Long userId, final Long matchId,
-            final ReservationStatus status) {
+            final ReservationStatus status, final Integer seatCount) {
         validate(userId, matchId, status);
         return Reservation.builder()
                 .id(id)
                 .userId(userId)
                 .matchId(matchId)
                 .status(status)
+                .seatCount(seatCount)
                 .build();
     }
 
@@ -65,6 +70,14 @@ public class Reservation {
         }
     }
 
+    /**
+     * 예약 좌석이 모두 남아 있는지 확인 (만료 반환/재점유로 일부 좌석을 잃었으면 false)
+     * - 좌석 수를 모르는 이전 예약은 한 좌석 이상이면 통과
+     */
+    public boolean hasAllSeats(final int heldSeatCount) {
+        return this.seatCount != null ? heldSeatCount == this.seatCount : heldSeatCount > 0;
+    }
+
     public Reservation confirm() {
         return Reservation.builder()
                 .id(this.id)
@@ -72,6 +85,7 @@ public class Reservation {
                 .matchId(this.matchId)
                 .status(ReservationStatus.CONFIRMED)
                 .seatIds(this.seatIds)
+                .seatCount(this.seatCount)
                 .build();
     }
 }
@@ -0,0 +1,58 @@
+package dev.ticketing.core.site.adapter.in.redis.status;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.application.port.in.allocation.status.EvictAllocationStatusSnapShotUseCase;
+
+/**
+ * AllocationStatusInvalidationListener - 좌석 현황 캐시 무효화 메시지 구독 (Redis Pub/Sub)
+ * 노드마다 구독하므로 각 노드의 Caffeine 캐시까지 함께 제거된다.
+ * 다른 노드가 발행한 메시지면 이 노드의 좌석 현황 뷰도 제거한다 (자기 노드의 변경은 이벤트로 이미 반영됨).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AllocationStatusInvalidationListener implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final EvictAllocationStatusSnapShotUseCase evictUseCase;
+
+    @Value("${seat.status.cache.invalidation-channel:seat:status:invalidation}")
+    private String channel;
+
+    @Value("${seat.status.stream.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] ids = body.split(":", 3);
+            Long matchId = Long.parseLong(ids[0]);
+            Long blockId = Long.parseLong(ids[1]);
+            evictUseCase.evictAllocationStatusSnapShot(matchId, blockId);
+            if (ids.length < 3 || !nodeId.equals(ids[2])) {
+                evictUseCase.evictAllocationStatusView(matchId, blockId);
+            }
+        } catch (Exception e) {
+            log.error("좌석 현황 캐시 무효화 실패: message={}", body, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package dev.ticketing.core.site.adapter.in.scheduler.allocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * HierarchicalTimingWheel - 만료 시각 기준 계층형 타이밍 휠 (단일 스레드 전용)
+ *
+ * - 0단계 휠은 tick 단위 버킷 wheelSize 개로 [currentTime, currentTime + tick * wheelSize) 구간을 담당
+ * - 그보다 먼 만료는 tick 이 하위 휠 전체 구간인 상위 휠에 넣고, 하위 휠 구간에 들어오면 한 단계씩 내려보냄
+ * - 버킷은 구간이 완전히 지난 뒤에 비우므로 항목은 만료 시각 이후, 최대 tick 만큼 늦게 만료됨
+ *
+ * 추가/진행 비용은 만료되는 항목 수에 비례하며 전체 항목 수와 무관하다.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<List<Entry<T>>> buckets;
+
+    // 다음으로 비울 버킷의 시작 시각 (tick 배수)
+    private long currentTime;
+    private HierarchicalTimingWheel<T> overflowWheel;
+
+    HierarchicalTimingWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.currentTime = startMillis - (startMillis % tickMillis);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @return 휠에 등록되었으면 true, 이미 만료 구간이 지났으면 false (호출자가 즉시 만료 처리)
+     */
+    boolean add(final long expiresAtMillis, final T item) {
+        return add(new Entry<>(expiresAtMillis, item));
+    }
+
+    /**
+     * now 까지 구간이 지난 버킷을 비우며 만료 항목을 전달한다.
+     */
+    void advance(final long nowMillis, final Consumer<T> expired) {
+        while (currentTime + tickMillis <= nowMillis) {
+            List<Entry<T>> bucket = buckets.get(bucketIndex(currentTime));
+            bucket.forEach(entry -> expired.accept(entry.item()));
+            bucket.clear();
+            currentTime += tickMillis;
+
+            if (overflowWheel != null) {
+                overflowWheel.cascade(currentTime, entry -> {
+                    if (!add(entry)) {
+                        expired.accept(entry.item());
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean add(final Entry<T> entry) {
+        if (entry.expiresAtMillis() < currentTime) {
+            return false;
+        }
+        if (entry.expiresAtMillis() < currentTime + intervalMillis) {
+            buckets.get(bucketIndex(entry.expiresAtMillis())).add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * 하위 휠 구간 [lowerTime, lowerTime + tick) 에 들어온 버킷을 하위 휠로 내려보낸다.
+     */
+    private void cascade(final long lowerTime, final Consumer<Entry<T>> lower) {
+        while (currentTime <= lowerTime) {
+            List<Entry<T>> bucket = buckets.get(bucketIndex(currentTime));
+            bucket.forEach(lower);
+            bucket.clear();
+            currentTime += tickMillis;
+
+            if (overflowWheel != null) {
+                overflowWheel.cascade(currentTime, entry -> {
+                    if (!add(entry)) {
+                        lower.accept(entry);
+                    }
+                });
+            }
+        }
+    }
+
+    private int bucketIndex(final long timeMillis) {
+        return (int) ((timeMillis / tickMillis) % wheelSize);
+    }
+
+    private record Entry<T>(long expiresAtMillis, T item) {
+    }
+}
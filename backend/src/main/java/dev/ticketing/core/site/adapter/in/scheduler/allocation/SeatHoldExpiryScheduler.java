@@ -0,0 +1,53 @@
+package dev.ticketing.core.site.adapter.in.scheduler.allocation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
+
+/**
+ * SeatHoldExpiryScheduler - 만료된 좌석 점유를 주기적으로 반환
+ *
+ * - 배치 단위(트랜잭션 1개)로 반환하며, 배치가 가득 차면 한 주기 안에서 최대 max-batches 번까지 이어서 처리
+ * - 반환된 좌석은 상태 변경 이벤트로 캐시 무효화/SSE 에 반영됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seat.allocation.expiry.strategy", havingValue = "scan", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SeatHoldExpiryScheduler {
+
+    private final ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase;
+
+    @Value("${seat.allocation.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${seat.allocation.expiry.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${seat.allocation.expiry.interval-ms:1000}")
+    public void releaseExpiredSeats() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int released;
+            try {
+                released = releaseExpiredSeatsUseCase.releaseExpiredSeats(batchSize);
+            } catch (Exception e) {
+                log.error("만료 좌석 반환 실패: batch={}", batch, e);
+                break;
+            }
+            total += released;
+            if (released < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("만료 좌석 반환: count={}", total);
+        }
+    }
+}
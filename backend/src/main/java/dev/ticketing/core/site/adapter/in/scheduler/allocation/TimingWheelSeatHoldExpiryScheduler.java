@@ -0,0 +1,126 @@
+package dev.ticketing.core.site.adapter.in.scheduler.allocation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChangedEvent;
+
+/**
+ * TimingWheelSeatHoldExpiryScheduler - 점유 만료 시각을 타이밍 휠에 등록해 만료된 좌석만 반환 (wheel 전략)
+ *
+ * - 점유(HOLD) 이벤트(커밋 이후)를 수신함에 넣고, tick 마다 휠에 옮긴 뒤 만료된 좌석만 경기 단위로 반환
+ * - 휠은 스케줄러 스레드에서만 다루므로 별도 잠금이 없음
+ * - 반환은 만료 조건부이므로 연장/재점유로 남은 예전 항목은 아무것도 바꾸지 않음
+ * - 휠은 노드 메모리에 있으므로 시작 시 DB의 점유 좌석으로 재구성하고,
+ *   다른 노드에서 점유된 좌석은 sweep-interval-ms 주기의 전체 스캔으로 보완
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seat.allocation.expiry.strategy", havingValue = "wheel")
+public class TimingWheelSeatHoldExpiryScheduler {
+
+    private final ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase;
+    private final HierarchicalTimingWheel<SeatRef> wheel;
+    private final Queue<PendingExpiry> inbox = new ConcurrentLinkedQueue<>();
+
+    @Value("${seat.allocation.expiry.batch-size:500}")
+    private int batchSize;
+
+    public TimingWheelSeatHoldExpiryScheduler(
+            final ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase,
+            @Value("${seat.allocation.expiry.wheel.tick-ms:100}") final long tickMillis,
+            @Value("${seat.allocation.expiry.wheel.size:64}") final int wheelSize) {
+        this.releaseExpiredSeatsUseCase = releaseExpiredSeatsUseCase;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationStatusChanged(final AllocationStatusChangedEvent event) {
+        schedule(event.status());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<AllocationStatus> heldSeats = releaseExpiredSeatsUseCase.getHeldSeats();
+        heldSeats.forEach(this::schedule);
+        log.info("점유 만료 타이밍 휠 재구성: count={}", heldSeats.size());
+    }
+
+    @Scheduled(fixedDelayString = "${seat.allocation.expiry.wheel.tick-ms:100}")
+    public void tick() {
+        Map<Long, List<Long>> expiredSeatIdsByMatch = new HashMap<>();
+        PendingExpiry pending;
+        while ((pending = inbox.poll()) != null) {
+            if (!wheel.add(pending.expiresAtMillis(), pending.seat())) {
+                collect(expiredSeatIdsByMatch, pending.seat());
+            }
+        }
+        wheel.advance(System.currentTimeMillis(), seat -> collect(expiredSeatIdsByMatch, seat));
+
+        int total = 0;
+        for (Map.Entry<Long, List<Long>> entry : expiredSeatIdsByMatch.entrySet()) {
+            try {
+                total += releaseExpiredSeatsUseCase.releaseExpiredSeats(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                // 반환하지 못한 좌석은 전체 스캔에서 다시 반환됨
+                log.error("만료 좌석 반환 실패: matchId={}, count={}", entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+        if (total > 0) {
+            log.info("만료 좌석 반환: count={}", total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seat.allocation.expiry.wheel.sweep-interval-ms:60000}",
+            initialDelayString = "${seat.allocation.expiry.wheel.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            int released = releaseExpiredSeatsUseCase.releaseExpiredSeats(batchSize);
+            if (released > 0) {
+                log.info("만료 좌석 반환 (전체 스캔): count={}", released);
+            }
+        } catch (Exception e) {
+            log.error("만료 좌석 전체 스캔 실패", e);
+        }
+    }
+
+    private void schedule(final AllocationStatus status) {
+        if (status.state() != AllocationState.HOLD || status.holdExpiresAt() == null) {
+            return;
+        }
+        inbox.add(new PendingExpiry(new SeatRef(status.matchId(), status.seatId()), toEpochMillis(status.holdExpiresAt())));
+    }
+
+    private void collect(final Map<Long, List<Long>> seatIdsByMatch, final SeatRef seat) {
+        seatIdsByMatch.computeIfAbsent(seat.matchId(), matchId -> new ArrayList<>()).add(seat.seatId());
+    }
+
+    private long toEpochMillis(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record SeatRef(Long matchId, Long seatId) {
+    }
+
+    private record PendingExpiry(SeatRef seat, long expiresAtMillis) {
+    }
+}
@@ -16,11 +16,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import dev.ticketing.common.web.model.response.ErrorResponse;
 import dev.ticketing.common.web.model.response.SuccessResponse;
 import dev.ticketing.core.site.adapter.in.web.allocation.model.request.AllocateSeatRequest;
+import dev.ticketing.core.site.adapter.in.web.allocation.model.request.AssignSeatsRequest;
 import dev.ticketing.core.site.adapter.in.web.allocation.model.request.ConfirmSeatsRequest;
+import dev.ticketing.core.site.adapter.in.web.allocation.model.request.HoldSeatsRequest;
 import dev.ticketing.core.site.adapter.in.web.allocation.model.request.ReleaseSeatRequest;
 import dev.ticketing.core.site.adapter.in.web.allocation.model.response.ConfirmSeatsResponse;
+import dev.ticketing.core.site.adapter.in.web.allocation.model.response.HoldSeatsResponse;
 import dev.ticketing.core.site.application.port.in.allocation.AllocateSeatUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.ConfirmSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.ReleaseSeatUseCase;
 
 @Tag(name = "Allocation", description = "좌석 배정 API")
@@ -30,6 +35,8 @@ import dev.ticketing.core.site.application.port.in.allocation.ReleaseSeatUseCase
 public class AllocationController {
 
         private final AllocateSeatUseCase allocateSeatUseCase;
+        private final HoldSeatsUseCase holdSeatsUseCase;
+        private final AssignSeatsUseCase assignSeatsUseCase;
         private final ReleaseSeatUseCase releaseSeatUseCase;
         private final ConfirmSeatsUseCase confirmSeatsUseCase;
 
@@ -48,6 +55,35 @@ public class AllocationController {
                 return SuccessResponse.of(null);
         }
 
+        @Operation(summary = "여러 좌석 일괄 점유 (Hold)", description = "선택한 좌석을 모두 점유하거나, 하나라도 점유할 수 없으면 아무것도 점유하지 않습니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "좌석 일괄 점유 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SuccessResponse.class))),
+                        @ApiResponse(responseCode = "409", description = "이미 점유/확정된 좌석 포함 (전체 실패)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(value = "{\"status\": 409, \"message\": \"이미 점유된 좌석입니다.\"}")))
+        })
+        @PostMapping("/seats/hold")
+        @ResponseStatus(HttpStatus.OK)
+        public SuccessResponse<HoldSeatsResponse> holdSeats(
+                        @PathVariable final Long matchId,
+                        @RequestBody final HoldSeatsRequest request) {
+                var heldSeats = holdSeatsUseCase.holdSeats(request.toCommand(matchId));
+                return SuccessResponse.of(HoldSeatsResponse.from(heldSeats));
+        }
+
+        @Operation(summary = "연속 좌석 자동 배정", description = "구간에서 같은 열에 연속된 좌석을 요청한 수만큼 골라 점유합니다. 다른 사용자가 처리 중인 좌석은 건너뜁니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "좌석 배정 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SuccessResponse.class))),
+                        @ApiResponse(responseCode = "409", description = "연속 좌석 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(value = "{\"status\": 409, \"message\": \"연속 좌석이 없습니다.\"}")))
+        })
+        @PostMapping("/blocks/{blockId}/seats/assign")
+        @ResponseStatus(HttpStatus.OK)
+        public SuccessResponse<HoldSeatsResponse> assignSeats(
+                        @PathVariable final Long matchId,
+                        @PathVariable final Long blockId,
+                        @RequestBody final AssignSeatsRequest request) {
+                var assignedSeats = assignSeatsUseCase.assignSeats(request.toCommand(matchId, blockId));
+                return SuccessResponse.of(HoldSeatsResponse.from(assignedSeats));
+        }
+
         @Operation(summary = "좌석 반환 (Release)", description = "점유 중인 좌석을 반환합니다.")
         @ApiResponses({
                         @ApiResponse(responseCode = "204", description = "좌석 반환 성공 (응답 본문 없음)"),
@@ -0,0 +1,14 @@
+package dev.ticketing.core.site.adapter.in.web.allocation.model.request;
+
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsCommand;
+
+/**
+ * 연속 좌석 자동 배정 요청
+ */
+public record AssignSeatsRequest(
+        Long userId,
+        int count) {
+    public AssignSeatsCommand toCommand(Long matchId, Long blockId) {
+        return new AssignSeatsCommand(userId, matchId, blockId, count);
+    }
+}
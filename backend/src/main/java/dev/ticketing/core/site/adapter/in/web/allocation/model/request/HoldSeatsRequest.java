@@ -0,0 +1,16 @@
+package dev.ticketing.core.site.adapter.in.web.allocation.model.request;
+
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+
+import java.util.List;
+
+/**
+ * 여러 좌석 일괄 점유 요청
+ */
+public record HoldSeatsRequest(
+        Long userId,
+        List<Long> seatIds) {
+    public HoldSeatsCommand toCommand(Long matchId) {
+        return new HoldSeatsCommand(userId, matchId, seatIds);
+    }
+}
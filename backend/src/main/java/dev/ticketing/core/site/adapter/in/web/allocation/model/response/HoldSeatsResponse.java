@@ -0,0 +1,30 @@
+package dev.ticketing.core.site.adapter.in.web.allocation.model.response;
+
+import dev.ticketing.core.site.domain.allocation.Allocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 좌석 일괄 점유 응답
+ */
+public record HoldSeatsResponse(
+        List<HeldSeat> heldSeats
+) {
+
+    public record HeldSeat(
+            Long seatId,
+            LocalDateTime holdExpiresAt
+    ) {
+        public static HeldSeat from(Allocation seat) {
+            return new HeldSeat(seat.getSeatId(), seat.getHoldExpiresAt());
+        }
+    }
+
+    public static HoldSeatsResponse from(List<Allocation> seats) {
+        List<HeldSeat> heldSeats = seats.stream()
+                .map(HeldSeat::from)
+                .toList();
+        return new HoldSeatsResponse(heldSeats);
+    }
+}
@@ -1,47 +1,88 @@
 package dev.ticketing.core.site.adapter.in.web.status;
 
 import dev.ticketing.common.web.model.response.SuccessResponse;
+import dev.ticketing.core.site.adapter.in.web.status.model.AllocationStatusBitmapResponse;
 import dev.ticketing.core.site.application.service.AllocationStatusService;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusBitmap;
 import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "Allocation Status", description = "자리 배정 현황 API")
 @RestController
 @RequestMapping("/api/matches/{matchId}/blocks/{blockId}/seats")
 @RequiredArgsConstructor
 public class AllocationStatusController {
 
+    private static final String VERSION_HEADER = "X-Allocation-Version";
+    private static final String SEAT_COUNT_HEADER = "X-Seat-Count";
+
     private final AllocationStatusService allocationStatusService;
     private final SseAllocationStatusBroadcaster broadcaster;
 
     @Operation(summary = "자리 배정 현황 조회")
     @GetMapping
-    public SuccessResponse<AllocationStatusSnapShot> getAllocationStatusSnapShotByMatchIdAndBlockId(
+    public CompletableFuture<SuccessResponse<AllocationStatusSnapShot>> getAllocationStatusSnapShotByMatchIdAndBlockId(
             @PathVariable final Long matchId,
             @PathVariable final Long blockId,
-            @Parameter(description = "조회 전략: none, collapsing, redis, caffeine")
+            @Parameter(description = "조회 전략: none, collapsing, redis, caffeine, tiered, materialized")
             @RequestParam(defaultValue = "collapsing") final String strategy,
             @Parameter(description = "스키마: normalized (JOIN 쿼리), denormalized (비정규화 쿼리)")
             @RequestParam(defaultValue = "denormalized") final String schema) {
-        AllocationStatusSnapShot snapshot = allocationStatusService
-                .getAllocationStatusSnapShotByMatchIdAndBlockId(matchId, blockId, strategy, schema);
-        return SuccessResponse.of(snapshot);
+        // 조회가 끝날 때까지 서블릿 스레드를 점유하지 않음 (완료 시 비동기로 응답)
+        return allocationStatusService
+                .getAllocationStatusSnapShotAsync(matchId, blockId, strategy, schema)
+                .thenApply(snapshot -> SuccessResponse.of(snapshot));
+    }
+
+    @Operation(summary = "자리 배정 현황 압축 조회",
+            description = "좌석당 2bit (0=AVAILABLE, 1=HOLD, 2=OCCUPIED), 구간 내 좌석 ID 오름차순. "
+                    + "Accept: application/octet-stream 이면 바이너리, 그 외에는 base64 JSON 으로 응답")
+    @GetMapping(params = "format=bitmap")
+    public ResponseEntity<?> getAllocationStatusBitmapByMatchIdAndBlockId(
+            @PathVariable final Long matchId,
+            @PathVariable final Long blockId,
+            @Parameter(description = "조회 전략: none, collapsing, redis, caffeine, tiered, materialized")
+            @RequestParam(defaultValue = "collapsing") final String strategy,
+            @Parameter(description = "스키마: normalized (JOIN 쿼리), denormalized (비정규화 쿼리)")
+            @RequestParam(defaultValue = "denormalized") final String schema,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept) {
+        AllocationStatusBitmap bitmap = allocationStatusService
+                .getAllocationStatusBitmap(matchId, blockId, strategy, schema);
+
+        if (accept != null && accept.contains(MediaType.APPLICATION_OCTET_STREAM_VALUE)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(VERSION_HEADER, String.valueOf(bitmap.version()))
+                    .header(SEAT_COUNT_HEADER, String.valueOf(bitmap.seatCount()))
+                    .body(bitmap.bitmap());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(SuccessResponse.of(AllocationStatusBitmapResponse.from(bitmap)));
     }
 
     @Operation(summary = "자리 배정 변경 내역 발생")
     @GetMapping("/events")
     public SseEmitter getSeatStatusStreamByMatchIdAndBlockId(
-            @PathVariable final Long matchId, @PathVariable final Long blockId) {
-        return broadcaster.subscribe(matchId, blockId);
+            @PathVariable final Long matchId, @PathVariable final Long blockId,
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 ID (변경 순번), 없으면 스냅샷부터 전송")
+            @RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId) {
+        return broadcaster.subscribe(matchId, blockId, lastEventId);
     }
 
 }
@@ -5,28 +5,37 @@ import dev.ticketing.common.web.model.response.SuccessResponse;
 import dev.ticketing.core.site.adapter.in.web.status.model.SseChangesResponse;
 import dev.ticketing.core.site.adapter.in.web.status.model.SseSnapshotResponse;
 import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusChangesUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusEventsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusSnapShotUseCase;
 import dev.ticketing.core.site.application.port.in.hierarchy.GetSeatsUseCase;
+import dev.ticketing.core.site.domain.allocation.AllocationBlockKey;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChanges;
 import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
 import dev.ticketing.core.site.domain.hierarchy.Seat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * SseAllocationStatusBroadcaster - SSE 기반 좌석 현황 브로드캐스터 (Adapter)
  * 기술 의존적 코드(SSE, Scheduler)를 Adapter 레이어에서 담당
- * 향후 Redis Stream 전환 시 이 Adapter만 교체하면 됨
+ *
+ * 변경분 수집 방식 (seat.status.broadcast)
+ * - polling: 경기별 변경 순번(change_seq) 커서 이후의 DB 변경분을 1초마다 조회 (기본)
+ *   SSE 이벤트 ID 로 변경 순번을 전송하므로 재연결 시 Last-Event-ID 이후 변경분만 받을 수 있음
+ * - stream: Redis Stream 이벤트를 XREAD 로 읽어 전송 (DB 조회 없음, 다중 노드 지원)
  */
 @Slf4j
 @Component
@@ -36,36 +45,62 @@ public class SseAllocationStatusBroadcaster {
     private final GetSeatsUseCase seatsUseCase;
     private final GetAllocationStatusSnapShotUseCase snapshotUseCase;
     private final GetAllocationStatusChangesUseCase changesUseCase;
+    private final GetAllocationStatusEventsUseCase eventsUseCase;
     private final ObjectMapper objectMapper;
 
+    @Value("${seat.status.broadcast:polling}")
+    private String broadcastMode;
+
     // matchId:blockId -> List<SseEmitter>
     private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
 
-    // 마지막 확인 시간 (충분히 과거 시간으로 초기화하여 첫 번째 변경사항도 감지)
-    private LocalDateTime lastCheckTime = LocalDateTime.now().minusMinutes(10);
+    // matchId -> 마지막으로 전송한 변경 순번
+    private final Map<Long, Long> changeCursors = new ConcurrentHashMap<>();
 
     /**
      * SSE 스트림 구독
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (polling 모드에서만 사용, 없으면 스냅샷 전송)
      */
-    public SseEmitter subscribe(Long matchId, Long blockId) {
-        log.info("SSE 구독 시작: matchId={}, blockId={}", matchId, blockId);
+    public SseEmitter subscribe(Long matchId, Long blockId, Long lastEventId) {
+        log.info("SSE 구독 시작: matchId={}, blockId={}, lastEventId={}", matchId, blockId, lastEventId);
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE); // 무제한 타임아웃
         String key = buildKey(matchId, blockId);
 
-        // 1. SSE 연결 등록
+        // 1. SSE 연결 등록 (stream 모드에서 첫 구독자면 스냅샷 조회 전에 이벤트 구독 위치부터 설정)
+        if (isStreamMode() && emitters.getOrDefault(key, List.of()).isEmpty()) {
+            eventsUseCase.startAllocationEvents(new AllocationBlockKey(matchId, blockId));
+        }
+        // polling 모드: 스냅샷보다 먼저 최근 순번을 읽어야 스냅샷 이후 변경분이 커서 뒤에 남음
+        Long latestChangeSeq = isStreamMode() ? null : changesUseCase.getLatestChangeSeq(matchId);
         emitters.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        if (latestChangeSeq != null) {
+            changeCursors.putIfAbsent(matchId, latestChangeSeq);
+        }
         log.info("SSE 연결 등록: matchId={}, blockId={}, 총 연결 수={}",
                 matchId, blockId, emitters.get(key).size());
 
         try {
-            // 2. 초기 데이터 전송
+            // 2-1. 재연결: Last-Event-ID 이후 변경분만 전송
+            if (latestChangeSeq != null && lastEventId != null && lastEventId <= latestChangeSeq) {
+                AllocationStatusChanges changes = changesUseCase.getAllocationChangesAfter(
+                        matchId, List.of(blockId), lastEventId);
+                sendChangesEvent(emitter, changes.changes(), String.valueOf(changes.lastChangeSeq()));
+                log.info("변경분 재전송 완료: matchId={}, blockId={}, lastEventId={}, 변경 수={}",
+                        matchId, blockId, lastEventId, changes.changes().size());
+                registerCallbacks(emitter, key, matchId, blockId);
+                return emitter;
+            }
+
+            // 2-2. 초기 데이터 전송
             log.info("좌석 및 배정 상태 조회 시작");
             List<Seat> seats = seatsUseCase.getSeats(blockId);
             AllocationStatusSnapShot snapshot = snapshotUseCase.getAllocationStatusSnapShotByMatchIdAndBlockId(matchId, blockId);
             log.info("조회 완료: 좌석 수={}, 배정 상태 수={}", seats.size(), snapshot.allocationStatuses().size());
 
             log.info("SSE 이벤트 전송 시작");
-            sendSnapshotEvent(emitter, seats, snapshot.allocationStatuses());
+            sendSnapshotEvent(emitter, seats, snapshot.allocationStatuses(),
+                    latestChangeSeq != null ? String.valueOf(latestChangeSeq) : null);
             log.info("초기 데이터 전송 완료: matchId={}, blockId={}", matchId, blockId);
 
         } catch (Exception e) {
@@ -77,7 +112,12 @@ public class SseAllocationStatusBroadcaster {
             return emitter;
         }
 
-        // 3. 연결 종료 시 제거
+        registerCallbacks(emitter, key, matchId, blockId);
+        return emitter;
+    }
+
+    // 3. 연결 종료 시 제거
+    private void registerCallbacks(SseEmitter emitter, String key, Long matchId, Long blockId) {
         emitter.onCompletion(() -> {
             emitters.get(key).remove(emitter);
             log.info("SSE 연결 종료: matchId={}, blockId={}, 남은 연결 수={}",
@@ -93,71 +133,150 @@ public class SseAllocationStatusBroadcaster {
             emitters.get(key).remove(emitter);
             log.error("SSE 연결 에러: matchId={}, blockId={}", matchId, blockId, e);
         });
-
-        return emitter;
     }
 
     /**
-     * 1초마다 실행: 변경 사항 감지 및 SSE 전송
+     * 1초마다 실행: 변경 사항 감지 및 SSE 전송 (경기당 쿼리 1번)
      */
     @Scheduled(fixedRate = 1000)
     public void pollAndBroadcast() {
         log.debug("스케줄러 실행됨: emitters 수={}", emitters.size());
+        if (isStreamMode()) {
+            return;
+        }
         if (emitters.isEmpty()) {
             log.debug("연결된 클라이언트 없음 - 스킵");
             return;
         }
 
-        LocalDateTime currentCheckTime = LocalDateTime.now();
+        // 구독 구간을 경기 단위로 묶어 경기당 1번만 조회 (쿼리 수 = 활성 경기 수)
+        Map<Long, Map<Long, List<SseEmitter>>> emittersByMatch = new HashMap<>();
+        emitters.forEach((key, emitterList) -> {
+            if (!emitterList.isEmpty()) {
+                Long[] ids = parseKey(key);
+                emittersByMatch.computeIfAbsent(ids[0], k -> new HashMap<>()).put(ids[1], emitterList);
+            }
+        });
 
-        log.info("변경 사항 체크 시작: 연결된 구간 수={}, 마지막 확인 시간={}, 현재 시간={}",
-                emitters.size(), lastCheckTime, currentCheckTime);
+        // 구독자가 모두 떠난 경기의 커서는 정리 (다시 구독하면 최근 순번부터 시작)
+        changeCursors.keySet().retainAll(emittersByMatch.keySet());
 
-        emitters.forEach((key, emitterList) -> {
-            if (emitterList.isEmpty()) {
+        log.info("변경 사항 체크 시작: 연결된 구간 수={}, 경기 수={}", emitters.size(), emittersByMatch.size());
+
+        emittersByMatch.forEach((matchId, emittersByBlock) -> {
+            // 커서는 구독 시 설정되며, 설정 전이면 다음 주기에 처리
+            Long cursor = changeCursors.get(matchId);
+            if (cursor == null) {
                 return;
             }
 
             try {
-                Long[] ids = parseKey(key);
-                Long matchId = ids[0];
-                Long blockId = ids[1];
-
                 // UseCase를 통해 변경 사항 조회
-                log.debug("변경 사항 조회 시작: matchId={}, blockId={}, since={}", matchId, blockId, lastCheckTime);
-                List<AllocationStatus> changes = changesUseCase.getAllocationChangesSince(matchId, blockId, lastCheckTime);
-                log.debug("변경 사항 조회 완료: matchId={}, blockId={}, 변경 수={}", matchId, blockId, changes.size());
+                log.debug("변경 사항 조회 시작: matchId={}, 구간 수={}, afterChangeSeq={}",
+                        matchId, emittersByBlock.size(), cursor);
+                AllocationStatusChanges result = changesUseCase.getAllocationChangesAfter(
+                        matchId, emittersByBlock.keySet(), cursor);
+                changeCursors.merge(matchId, result.lastChangeSeq(), Math::max);
+                List<AllocationStatus> changes = result.changes();
+                log.debug("변경 사항 조회 완료: matchId={}, 변경 수={}, lastChangeSeq={}",
+                        matchId, changes.size(), result.lastChangeSeq());
+
+                if (changes.isEmpty()) {
+                    return;
+                }
 
-                if (!changes.isEmpty()) {
+                String eventId = String.valueOf(result.lastChangeSeq());
+                Map<Long, List<AllocationStatus>> changesByBlock = changes.stream()
+                        .collect(Collectors.groupingBy(AllocationStatus::blockId));
+
+                changesByBlock.forEach((blockId, blockChanges) -> {
+                    List<SseEmitter> emitterList = emittersByBlock.get(blockId);
+                    if (emitterList == null) {
+                        return;
+                    }
                     log.info("변경 사항 감지: matchId={}, blockId={}, 변경 수={}, 변경 목록={}",
-                            matchId, blockId, changes.size(), changes);
+                            matchId, blockId, blockChanges.size(), blockChanges);
 
                     // 변경분을 한 번의 이벤트로 전송 (Batch)
-                    broadcastChanges(emitterList, changes);
-                }
+                    broadcastChanges(emitterList, blockChanges, eventId);
+                });
 
             } catch (Exception e) {
-                log.error("변경 사항 체크 실패: key={}", key, e);
+                log.error("변경 사항 체크 실패: matchId={}", matchId, e);
             }
         });
+    }
 
-        lastCheckTime = currentCheckTime;
+    /**
+     * stream 모드: 구독 중인 모든 구간의 이벤트를 한 번의 XREADGROUP 으로 읽어 구간별로 전송
+     */
+    @Scheduled(fixedDelayString = "${seat.status.stream.poll-interval-ms:100}")
+    public void consumeAndBroadcast() {
+        if (!isStreamMode()) {
+            return;
+        }
+
+        Map<String, List<SseEmitter>> subscribed = emitters.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (subscribed.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<AllocationBlockKey> keys = subscribed.keySet().stream()
+                    .map(this::parseKey)
+                    .map(ids -> new AllocationBlockKey(ids[0], ids[1]))
+                    .toList();
+
+            List<AllocationStatus> events = eventsUseCase.getAllocationEvents(keys);
+            if (events.isEmpty()) {
+                return;
+            }
+
+            // 이벤트 순서를 유지한 채 구간별로 묶어서 전송
+            Map<String, List<AllocationStatus>> eventsByKey = events.stream()
+                    .collect(Collectors.groupingBy(
+                            event -> buildKey(event.matchId(), event.blockId()),
+                            Collectors.toList()));
+
+            eventsByKey.forEach((key, changes) -> {
+                List<SseEmitter> emitterList = subscribed.get(key);
+                if (emitterList != null) {
+                    log.debug("이벤트 전송: key={}, 변경 수={}", key, changes.size());
+                    broadcastChanges(emitterList, changes, null);
+                }
+            });
+        } catch (Exception e) {
+            log.error("이벤트 스트림 처리 실패: 구독 구간 수={}", subscribed.size(), e);
+        }
+    }
+
+    private boolean isStreamMode() {
+        return "stream".equals(broadcastMode);
     }
 
-    private void sendSnapshotEvent(SseEmitter emitter, List<Seat> seats, List<AllocationStatus> allocationStatuses) throws IOException {
+    private void sendSnapshotEvent(SseEmitter emitter, List<Seat> seats, List<AllocationStatus> allocationStatuses,
+            String eventId) throws IOException {
         SseSnapshotResponse response = SseSnapshotResponse.of(seats, allocationStatuses);
         String json = objectMapper.writeValueAsString(SuccessResponse.of(response));
-        emitter.send(SseEmitter.event().name("snapshot").data(json));
+        emitter.send(event(eventId).name("snapshot").data(json));
+    }
+
+    private void sendChangesEvent(SseEmitter emitter, List<AllocationStatus> changes, String eventId) throws IOException {
+        SseChangesResponse response = SseChangesResponse.from(changes);
+        String json = objectMapper.writeValueAsString(SuccessResponse.of(response));
+        emitter.send(event(eventId).name("changes").data(json));
     }
 
-    private void broadcastChanges(List<SseEmitter> emitterList, List<AllocationStatus> changes) {
+    private void broadcastChanges(List<SseEmitter> emitterList, List<AllocationStatus> changes, String eventId) {
         try {
             SseChangesResponse response = SseChangesResponse.from(changes);
             String json = objectMapper.writeValueAsString(SuccessResponse.of(response));
 
             emitterList.forEach(emitter -> {
                 try {
-                    emitter.send(SseEmitter.event().name("changes").data(json));
+                    emitter.send(event(eventId).name("changes").data(json));
                 } catch (IOException e) {
                     log.error("변경 사항 전송 실패", e);
                     emitterList.remove(emitter);
@@ -168,6 +287,11 @@ public class SseAllocationStatusBroadcaster {
         }
     }
 
+    private SseEmitter.SseEventBuilder event(String eventId) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        return eventId != null ? builder.id(eventId) : builder;
+    }
+
     private String buildKey(Long matchId, Long blockId) {
         return matchId + ":" + blockId;
     }
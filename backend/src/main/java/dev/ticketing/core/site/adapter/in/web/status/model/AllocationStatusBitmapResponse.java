@@ -0,0 +1,23 @@
+package dev.ticketing.core.site.adapter.in.web.status.model;
+
+import dev.ticketing.core.site.domain.allocation.AllocationStatusBitmap;
+
+/**
+ * 좌석 현황 압축 응답 DTO (format=bitmap)
+ * bitmap 은 좌석당 2bit 배열이며 JSON 에서는 base64 문자열로 직렬화됨
+ */
+public record AllocationStatusBitmapResponse(
+        Long version,
+        int seatCount,
+        int bitsPerSeat,
+        byte[] bitmap
+) {
+    public static AllocationStatusBitmapResponse from(AllocationStatusBitmap bitmap) {
+        return new AllocationStatusBitmapResponse(
+                bitmap.version(),
+                bitmap.seatCount(),
+                AllocationStatusBitmap.BITS_PER_SEAT,
+                bitmap.bitmap()
+        );
+    }
+}
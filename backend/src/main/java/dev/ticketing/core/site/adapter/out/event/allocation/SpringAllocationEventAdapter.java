@@ -0,0 +1,29 @@
+package dev.ticketing.core.site.adapter.out.event.allocation;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.PublishAllocationEventPort;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChangedEvent;
+
+/**
+ * SpringAllocationEventAdapter - 좌석 상태 변경을 애플리케이션 이벤트로 발행
+ *
+ * 구독자는 @TransactionalEventListener 로 커밋 이후에 이벤트를 받는다.
+ * - RedisStreamAllocationEventAdapter: Redis Stream 발행 (SSE stream 모드)
+ * - InMemoryAllocationStatusViewAdapter: 좌석 현황 뷰 갱신 (materialized 전략)
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringAllocationEventAdapter implements PublishAllocationEventPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publishAllocationStatusChangeEvent(final AllocationStatus status) {
+        applicationEventPublisher.publishEvent(new AllocationStatusChangedEvent(status));
+    }
+}
@@ -0,0 +1,610 @@
+package dev.ticketing.core.site.adapter.out.memory.allocation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.adapter.out.persistence.allocation.AllocationEntity;
+import dev.ticketing.core.site.adapter.out.persistence.allocation.AllocationRepository;
+import dev.ticketing.core.site.adapter.out.persistence.hierarchy.entity.SeatEntity;
+import dev.ticketing.core.site.adapter.out.persistence.hierarchy.repository.SeatRepository;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LockAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+
+/**
+ * InMemoryAllocationAdapter - 메모리 기반 좌석 상태 엔진 (seat.allocation.engine=memory)
+ *
+ * - 경기별 좌석 상태를 {@link MatchSeatStateTable} 원시 배열로 보관하고, 좌석 단위 잠금을 CAS로 처리
+ * - 좌석 ID를 아는 요청은 트랜잭션 시작 전에 잠금을 획득하므로 잠금 대기가 Hikari 커넥션을 점유하지 않음
+ * - 트랜잭션 안에서의 기록은 커밋 시점에 반영(롤백 시 폐기)되고, 트랜잭션 안에서 획득한 잠금은 트랜잭션 종료 시 해제
+ * - SKIP LOCKED 에 해당하는 경로(연속 좌석 탐색, 만료 반환)는 잠금을 기다리지 않고 건너뜀
+ * - Postgres는 Write-Behind(비동기 일괄 저장)로 최종 기록을 유지
+ *
+ * 좌석 상태가 노드 메모리에 있으므로 단일 인스턴스(또는 경기 단위 라우팅) 배포를 전제로 한다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "seat.allocation.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryAllocationAdapter implements LoadAllocationPort, RecordAllocationPort, LockAllocationPort {
+
+    private final AllocationRepository allocationRepository;
+    private final SeatRepository seatRepository;
+
+    // matchId -> 좌석 상태 테이블 (최초 접근 시 DB에서 적재)
+    private final Map<Long, MatchSeatStateTable> tables = new ConcurrentHashMap<>();
+
+    // allocationId -> 마지막 상태 (같은 좌석의 연속 변경은 최신 값 하나로 합쳐짐)
+    private final Map<Long, Allocation> writeBehindQueue = new ConcurrentHashMap<>();
+
+    // 트랜잭션 시작 전에 현재 스레드가 미리 잠근 좌석 (트랜잭션 컨텍스트는 다시 잠그거나 해제하지 않음)
+    private final ThreadLocal<Set<SeatRef>> preLocked = new ThreadLocal<>();
+
+    // --- LockAllocationPort ---
+
+    @Override
+    public <T> T executeWithSeatLocks(final Long matchId, final Collection<Long> seatIds, final Supplier<T> action) {
+        // 이미 트랜잭션 안이면 커밋 반영 전에 잠금이 풀릴 수 있으므로 트랜잭션 잠금에 맡김
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return action.get();
+        }
+        MatchSeatStateTable table = loadTable(matchId);
+        if (table == null) {
+            return action.get();
+        }
+
+        Set<SeatRef> held = preLocked.get();
+        if (held == null) {
+            held = new HashSet<>();
+            preLocked.set(held);
+        }
+        List<SeatRef> acquired = new ArrayList<>();
+        try {
+            // 좌석 ID 순으로 잠가 교착 상태 방지
+            int[] ordinals = seatIds.stream()
+                    .distinct()
+                    .sorted()
+                    .mapToInt(table::ordinalOf)
+                    .filter(ordinal -> ordinal >= 0)
+                    .toArray();
+            for (int ordinal : ordinals) {
+                SeatRef ref = new SeatRef(table, ordinal);
+                if (held.contains(ref)) {
+                    continue;
+                }
+                table.lock(ordinal);
+                acquired.add(ref);
+                held.add(ref);
+            }
+            return action.get();
+        } finally {
+            for (SeatRef ref : acquired) {
+                held.remove(ref);
+                ref.table().unlock(ref.ordinal());
+            }
+            if (held.isEmpty()) {
+                preLocked.remove();
+            }
+        }
+    }
+
+    @Override
+    public <T> T executeWithReservationSeatLocks(final Long reservationId, final Supplier<T> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return action.get();
+        }
+        List<Allocation> allocations = loadAllocationsByReservationId(reservationId);
+        if (allocations.isEmpty()) {
+            return action.get();
+        }
+        // 예약은 한 경기의 좌석만 가짐
+        return executeWithSeatLocks(allocations.get(0).getMatchId(),
+                allocations.stream().map(Allocation::getSeatId).toList(), action);
+    }
+
+    // --- LoadAllocationPort ---
+
+    @Override
+    public Optional<Allocation> loadAllocationByMatchAndSeatWithLock(final Long matchId, final Long seatId) {
+        MatchSeatStateTable table = loadTable(matchId);
+        if (table == null) {
+            return Optional.empty();
+        }
+        int ordinal = table.ordinalOf(seatId);
+        if (ordinal < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(lockAndRead(table, ordinal));
+    }
+
+    @Override
+    public List<Allocation> loadAllocationsByMatchAndSeatsWithLock(final Long matchId, final Collection<Long> seatIds) {
+        MatchSeatStateTable table = loadTable(matchId);
+        if (table == null) {
+            return List.of();
+        }
+        // 좌석 ID 순으로 잠가 교착 상태 방지
+        return seatIds.stream()
+                .sorted()
+                .mapToInt(table::ordinalOf)
+                .filter(ordinal -> ordinal >= 0)
+                .mapToObj(ordinal -> lockAndRead(table, ordinal))
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> loadAdjacentAvailableAllocationsWithSkipLock(final Long matchId, final Long blockId,
+            final int count, final LocalDateTime now, final Collection<Long> excludedSeatIds) {
+        MatchSeatStateTable table = loadTable(matchId);
+        if (table == null) {
+            return List.of();
+        }
+
+        List<SeatEntity> seats = seatRepository.findByBlockId(blockId).stream()
+                .sorted(Comparator.comparing(SeatEntity::getRowNumber).thenComparing(SeatEntity::getSeatNumber))
+                .toList();
+
+        // 잠금 없이 연속 후보를 찾고, 잠금 후 재확인에 실패하면 그 다음 좌석부터 다시 탐색
+        List<SeatEntity> run = new ArrayList<>();
+        for (SeatEntity seat : seats) {
+            int ordinal = table.ordinalOf(seat.getId());
+            if (ordinal < 0 || excludedSeatIds.contains(seat.getId()) || !table.mayBeAvailable(ordinal, now)) {
+                run.clear();
+                continue;
+            }
+            if (!isNextInRow(run, seat)) {
+                run.clear();
+            }
+            run.add(seat);
+            if (run.size() < count) {
+                continue;
+            }
+            // 다른 요청이 잠근 좌석은 기다리지 않고 건너뜀 (SKIP LOCKED)
+            List<Allocation> locked = new ArrayList<>();
+            for (SeatEntity candidate : run) {
+                Optional<Allocation> allocation = tryLockAndRead(table, table.ordinalOf(candidate.getId()))
+                        .filter(read -> isAvailable(read, now));
+                if (allocation.isEmpty()) {
+                    break;
+                }
+                locked.add(allocation.get());
+            }
+            if (locked.size() == run.size()) {
+                return locked;
+            }
+            run.clear();
+        }
+        return List.of();
+    }
+
+    private boolean isNextInRow(final List<SeatEntity> run, final SeatEntity seat) {
+        if (run.isEmpty()) {
+            return true;
+        }
+        SeatEntity last = run.get(run.size() - 1);
+        return last.getRowNumber().equals(seat.getRowNumber()) && last.getSeatNumber() + 1 == seat.getSeatNumber();
+    }
+
+    private boolean isAvailable(final Allocation allocation, final LocalDateTime now) {
+        return allocation.getState() == AllocationState.AVAILABLE
+                || (allocation.getState() == AllocationState.HOLD
+                && allocation.getHoldExpiresAt() != null && allocation.getHoldExpiresAt().isBefore(now));
+    }
+
+    @Override
+    public List<Allocation> loadAllocationsByReservationId(final Long reservationId) {
+        List<Allocation> allocations = findReservedAllocations(reservationId);
+        if (!allocations.isEmpty()) {
+            return allocations;
+        }
+        // 아직 적재되지 않은 경기의 예약이면 DB에서 경기를 찾아 적재 후 다시 탐색
+        List<Long> matchIds = allocationRepository.findMatchIdsByReservationId(reservationId);
+        matchIds.forEach(this::loadTable);
+        return findReservedAllocations(reservationId);
+    }
+
+    @Override
+    public List<Allocation> loadHeldAllocations() {
+        // Write-Behind 로 아직 저장되지 않은 점유가 있을 수 있으므로 적재된 경기는 메모리 기준으로 조회
+        // 잠긴 좌석은 잠금을 보유한 트랜잭션이 상태 변경 이벤트를 발행하므로 건너뜀
+        List<Allocation> allocations = new ArrayList<>();
+        for (MatchSeatStateTable table : tables.values()) {
+            for (int ordinal : table.heldOrdinals()) {
+                tryLockAndRead(table, ordinal)
+                        .filter(allocation -> allocation.getState() == AllocationState.HOLD)
+                        .ifPresent(allocations::add);
+            }
+        }
+        allocationRepository.findByStatus(AllocationState.HOLD).stream()
+                .map(AllocationEntity::toDomain)
+                .filter(allocation -> !tables.containsKey(allocation.getMatchId()))
+                .forEach(allocations::add);
+        return allocations;
+    }
+
+    private List<Allocation> findReservedAllocations(final Long reservationId) {
+        List<Allocation> allocations = new ArrayList<>();
+        for (MatchSeatStateTable table : tables.values()) {
+            // 예약 인덱스의 후보만 좌석 ID 순으로 잠가 재확인 (전체 좌석을 순회하지 않음)
+            for (int ordinal : table.reservedOrdinals(reservationId)) {
+                Allocation allocation = lockAndRead(table, ordinal);
+                if (reservationId.equals(allocation.getReservationId())) {
+                    allocations.add(allocation);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    // --- RecordAllocationPort ---
+
+    @Override
+    public Allocation recordAllocation(final Allocation allocation) {
+        MatchSeatStateTable table = loadTable(allocation.getMatchId());
+        int ordinal = table != null ? table.ordinalOf(allocation.getSeatId()) : -1;
+        if (ordinal < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Allocation for seat %d is not loaded for match %d", allocation.getSeatId(), allocation.getMatchId()));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean locked = lockUnlessPreLocked(table, ordinal);
+            try {
+                apply(table, ordinal, allocation);
+            } finally {
+                if (locked) {
+                    table.unlock(ordinal);
+                }
+            }
+            return allocation;
+        }
+
+        currentContext().stage(table, ordinal, allocation);
+        return allocation;
+    }
+
+    @Override
+    public void saveAll(final List<Allocation> allocations) {
+        List<AllocationEntity> entities = allocations.stream()
+                .map(AllocationEntity::from)
+                .toList();
+        allocationRepository.saveAll(entities);
+
+        // 신규 생성된 좌석 할당은 다음 접근 시 DB에서 다시 적재
+        allocations.stream()
+                .map(Allocation::getMatchId)
+                .distinct()
+                .forEach(tables::remove);
+    }
+
+    @Override
+    public int recordAvailableAllocationsForMatch(final Long matchId) {
+        int created = allocationRepository.insertAvailableByMatchId(matchId, LocalDateTime.now());
+        // 신규 생성된 좌석 할당은 다음 접근 시 DB에서 다시 적재
+        tables.remove(matchId);
+        return created;
+    }
+
+    @Override
+    public Optional<Allocation> recordAllocationHoldIfAvailable(final Long userId, final Long matchId,
+            final Long seatId, final LocalDateTime expiresAt, final LocalDateTime now) {
+        return loadAllocationByMatchAndSeatWithLock(matchId, seatId)
+                .filter(allocation -> isAvailable(allocation, now))
+                .map(allocation -> recordAllocation(allocation.hold(userId, matchId, expiresAt)));
+    }
+
+    @Override
+    public List<Allocation> recordExpiredHoldReleases(final LocalDateTime now, final int limit) {
+        // 점유 좌석 인덱스만 순회하고, 잠긴 좌석은 기다리지 않고 건너뜀 (SKIP LOCKED)
+        List<Allocation> expired = new ArrayList<>();
+        for (MatchSeatStateTable table : tables.values()) {
+            for (int ordinal : table.heldOrdinals()) {
+                if (expired.size() >= limit) {
+                    return releaseUnlessPaymentInProgress(expired);
+                }
+                if (!table.mayBeExpiredHold(ordinal, now)) {
+                    continue;
+                }
+                tryLockAndRead(table, ordinal)
+                        .filter(allocation -> isExpiredHold(allocation, now))
+                        .ifPresent(expired::add);
+            }
+        }
+        return releaseUnlessPaymentInProgress(expired);
+    }
+
+    @Override
+    public List<Allocation> recordExpiredHoldReleases(final Long matchId, final Collection<Long> seatIds,
+            final LocalDateTime now) {
+        MatchSeatStateTable table = loadTable(matchId);
+        if (table == null) {
+            return List.of();
+        }
+        // 잠긴 좌석은 기다리지 않고 건너뜀 (남은 만료 좌석은 전체 스캔이 반환)
+        return releaseUnlessPaymentInProgress(seatIds.stream()
+                .sorted()
+                .mapToInt(table::ordinalOf)
+                .filter(ordinal -> ordinal >= 0 && table.mayBeExpiredHold(ordinal, now))
+                .mapToObj(ordinal -> tryLockAndRead(table, ordinal))
+                .flatMap(Optional::stream)
+                .filter(allocation -> isExpiredHold(allocation, now))
+                .toList());
+    }
+
+    @Override
+    public void recordAllocationHolds(final Long userId, final Long matchId, final Collection<Long> seatIds,
+            final LocalDateTime expiresAt) {
+        loadAllocationsByMatchAndSeatsWithLock(matchId, seatIds)
+                .forEach(allocation -> recordAllocation(allocation.hold(userId, matchId, expiresAt)));
+    }
+
+    @Override
+    public void recordAllocationOccupations(final Long matchId, final Collection<Long> seatIds) {
+        loadAllocationsByMatchAndSeatsWithLock(matchId, seatIds)
+                .forEach(allocation -> recordAllocation(allocation.occupy()));
+    }
+
+    @Override
+    public List<Allocation> recordReservationHoldExtensions(final Long reservationId, final LocalDateTime expiresAt,
+            final LocalDateTime now) {
+        return loadAllocationsByReservationId(reservationId).stream()
+                .filter(allocation -> allocation.getState() == AllocationState.HOLD && !isExpiredHold(allocation, now))
+                .map(allocation -> recordAllocation(allocation.extendHold(expiresAt)))
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> recordReservationHoldRestorations(final Long reservationId,
+            final LocalDateTime expiresAt, final LocalDateTime now) {
+        return loadAllocationsByReservationId(reservationId).stream()
+                .filter(allocation -> allocation.getState() == AllocationState.HOLD
+                        && allocation.getHoldExpiresAt() != null && allocation.getHoldExpiresAt().isAfter(expiresAt))
+                .map(allocation -> recordAllocation(allocation.restoreHold(expiresAt)))
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> recordReservationOccupations(final Long reservationId) {
+        return loadAllocationsByReservationId(reservationId).stream()
+                .filter(allocation -> allocation.getState() == AllocationState.HOLD)
+                .map(allocation -> recordAllocation(allocation.occupy()))
+                .toList();
+    }
+
+    @Override
+    public int recordReservationAssignments(final Long reservationId, final Long userId, final Long matchId,
+            final Collection<Long> seatIds, final LocalDateTime now) {
+        List<Allocation> assigned = loadAllocationsByMatchAndSeatsWithLock(matchId, seatIds).stream()
+                .filter(allocation -> allocation.isHeldBy(userId)
+                        && (allocation.getHoldExpiresAt() == null || !allocation.getHoldExpiresAt().isBefore(now)))
+                .map(allocation -> recordAllocation(allocation.assignReservation(reservationId)))
+                .toList();
+        return assigned.size();
+    }
+
+    // --- Write-Behind ---
+
+    @Scheduled(fixedDelayString = "${seat.allocation.memory.flush-interval-ms:100}")
+    public void flushWriteBehind() {
+        if (writeBehindQueue.isEmpty()) {
+            return;
+        }
+
+        List<Allocation> batch = new ArrayList<>();
+        for (Long allocationId : writeBehindQueue.keySet()) {
+            Allocation allocation = writeBehindQueue.remove(allocationId);
+            if (allocation != null) {
+                batch.add(allocation);
+            }
+        }
+
+        try {
+            allocationRepository.saveAll(batch.stream().map(AllocationEntity::from).toList());
+            log.debug("Write-behind flushed: count={}", batch.size());
+        } catch (Exception e) {
+            log.error("Write-behind flush failed, re-queueing: count={}", batch.size(), e);
+            // 실패한 값보다 새로운 변경이 이미 들어왔다면 새로운 값을 유지
+            batch.forEach(allocation -> writeBehindQueue.putIfAbsent(allocation.getId(), allocation));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushWriteBehind();
+    }
+
+    // --- Internal ---
+
+    private MatchSeatStateTable loadTable(final Long matchId) {
+        return tables.computeIfAbsent(matchId, id -> {
+            List<Allocation> allocations = allocationRepository.findAllocationsByMatchId(id);
+            if (allocations.isEmpty()) {
+                // 아직 오픈되지 않은 경기는 캐싱하지 않음
+                return null;
+            }
+            log.info("Seat state table loaded: matchId={}, seats={}", id, allocations.size());
+            return MatchSeatStateTable.of(id, allocations);
+        });
+    }
+
+    private Allocation lockAndRead(final MatchSeatStateTable table, final int ordinal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean locked = lockUnlessPreLocked(table, ordinal);
+            try {
+                return table.read(ordinal);
+            } finally {
+                if (locked) {
+                    table.unlock(ordinal);
+                }
+            }
+        }
+        return currentContext().lockAndRead(table, ordinal);
+    }
+
+    /**
+     * 잠금을 기다리지 않고 한 번만 시도하여 읽는다.
+     *
+     * @return 다른 요청이 잠근 좌석이면 빈 값
+     */
+    private Optional<Allocation> tryLockAndRead(final MatchSeatStateTable table, final int ordinal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (isPreLocked(table, ordinal)) {
+                return Optional.of(table.read(ordinal));
+            }
+            if (!table.tryLock(ordinal)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(table.read(ordinal));
+            } finally {
+                table.unlock(ordinal);
+            }
+        }
+        return currentContext().tryLockAndRead(table, ordinal);
+    }
+
+    /**
+     * @return 이번 호출에서 잠금을 획득했으면 true (미리 잠근 좌석이면 false)
+     */
+    private boolean lockUnlessPreLocked(final MatchSeatStateTable table, final int ordinal) {
+        if (isPreLocked(table, ordinal)) {
+            return false;
+        }
+        table.lock(ordinal);
+        return true;
+    }
+
+    private boolean isPreLocked(final MatchSeatStateTable table, final int ordinal) {
+        Set<SeatRef> held = preLocked.get();
+        return held != null && held.contains(new SeatRef(table, ordinal));
+    }
+
+    /**
+     * 잠금 조회한 만료 점유 중 결제 승인 진행 중(IN_PROGRESS)인 예약의 좌석을 빼고 반환한다.
+     * 결제 상태는 DB 에만 있으므로 예약이 걸린 좌석이 있을 때만 한 번 조회
+     */
+    private List<Allocation> releaseUnlessPaymentInProgress(final List<Allocation> expired) {
+        Set<Long> reservationIds = expired.stream()
+                .map(Allocation::getReservationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> paying = reservationIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(allocationRepository.findReservationIdsWithPaymentInProgress(reservationIds));
+        return expired.stream()
+                .filter(allocation -> allocation.getReservationId() == null
+                        || !paying.contains(allocation.getReservationId()))
+                .map(allocation -> recordAllocation(allocation.release()))
+                .toList();
+    }
+
+    private boolean isExpiredHold(final Allocation allocation, final LocalDateTime now) {
+        return allocation.getState() == AllocationState.HOLD && allocation.getHoldExpiresAt() != null
+                && allocation.getHoldExpiresAt().isBefore(now);
+    }
+
+    private void apply(final MatchSeatStateTable table, final int ordinal, final Allocation allocation) {
+        table.write(ordinal, allocation);
+        writeBehindQueue.put(allocation.getId(), allocation);
+    }
+
+    private SeatLockContext currentContext() {
+        SeatLockContext context = (SeatLockContext) TransactionSynchronizationManager.getResource(this);
+        if (context == null) {
+            context = new SeatLockContext();
+            TransactionSynchronizationManager.bindResource(this, context);
+            TransactionSynchronizationManager.registerSynchronization(context);
+        }
+        return context;
+    }
+
+    /**
+     * 트랜잭션 단위 좌석 잠금/변경 컨텍스트
+     * - 같은 트랜잭션 안에서는 재진입 가능하며, 스테이징된 값을 우선 조회
+     * - 트랜잭션 시작 전에 미리 잠근 좌석은 다시 잠그지 않고, 해제도 미리 잠근 쪽에 맡김
+     * - afterCommit: 스테이징된 값을 테이블과 Write-Behind 큐에 반영
+     * - afterCompletion: 커밋/롤백 여부와 무관하게 보유한 잠금을 모두 해제
+     */
+    private final class SeatLockContext implements TransactionSynchronization {
+
+        private final Set<SeatRef> locked = new LinkedHashSet<>();
+        private final Map<SeatRef, Allocation> staged = new LinkedHashMap<>();
+
+        Allocation lockAndRead(final MatchSeatStateTable table, final int ordinal) {
+            SeatRef ref = acquire(table, ordinal);
+            Allocation stagedAllocation = staged.get(ref);
+            return stagedAllocation != null ? stagedAllocation : table.read(ordinal);
+        }
+
+        Optional<Allocation> tryLockAndRead(final MatchSeatStateTable table, final int ordinal) {
+            SeatRef ref = new SeatRef(table, ordinal);
+            if (!isPreLocked(table, ordinal) && !locked.contains(ref)) {
+                if (!table.tryLock(ordinal)) {
+                    return Optional.empty();
+                }
+                locked.add(ref);
+            }
+            Allocation stagedAllocation = staged.get(ref);
+            return Optional.of(stagedAllocation != null ? stagedAllocation : table.read(ordinal));
+        }
+
+        void stage(final MatchSeatStateTable table, final int ordinal, final Allocation allocation) {
+            staged.put(acquire(table, ordinal), allocation);
+        }
+
+        private SeatRef acquire(final MatchSeatStateTable table, final int ordinal) {
+            SeatRef ref = new SeatRef(table, ordinal);
+            if (!isPreLocked(table, ordinal) && locked.add(ref)) {
+                try {
+                    table.lock(ordinal);
+                } catch (RuntimeException e) {
+                    locked.remove(ref);
+                    throw e;
+                }
+            }
+            return ref;
+        }
+
+        @Override
+        public void afterCommit() {
+            staged.forEach((ref, allocation) -> apply(ref.table(), ref.ordinal(), allocation));
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            locked.forEach(ref -> ref.table().unlock(ref.ordinal()));
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryAllocationAdapter.this);
+        }
+    }
+
+    private record SeatRef(MatchSeatStateTable table, int ordinal) {
+    }
+}
@@ -0,0 +1,268 @@
+package dev.ticketing.core.site.adapter.out.memory.allocation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.dao.CannotAcquireLockException;
+
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+
+/**
+ * MatchSeatStateTable - 경기 하나의 좌석 상태를 좌석 순번(ordinal) 기준 원시 배열로 보관
+ *
+ * - 상태 워드(long) = [version | locked bit | state(2bit)], 전이는 CAS로만 수행
+ * - 부가 필드(userId, reservationId, holdExpiresAt, updatedAt)는 잠금 비트를 획득한 스레드만 기록
+ * - 잠금 비트 획득/해제가 CAS(volatile) 이므로 부가 필드의 가시성도 함께 보장됨
+ * - 점유(HOLD) 좌석 순번은 별도 인덱스로 유지하여 만료/점유 조회가 전체 좌석을 순회하지 않음
+ * - 예약 ID -> 좌석 순번 인덱스를 유지하여 예약 좌석 조회가 전체 좌석을 순회하지 않음
+ */
+final class MatchSeatStateTable {
+
+    private static final long STATE_MASK = 0b11L;
+    private static final long LOCKED_BIT = 0b100L;
+    private static final int VERSION_SHIFT = 3;
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int SPIN_LIMIT = 64;
+    private static final long LOCK_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final AllocationState[] STATES = AllocationState.values();
+
+    private final Long matchId;
+    private final Map<Long, Integer> ordinalBySeatId;
+
+    private final long[] allocationIds;
+    private final long[] blockIds;
+    private final long[] seatIds;
+    private final long[] userIds;
+    private final long[] reservationIds;
+    private final long[] holdExpiresAtMicros;
+    private final long[] updatedAtMicros;
+
+    private final AtomicLongArray words;
+
+    // 점유(HOLD) 상태 좌석 순번 (상태 전이 시 잠금 보유 스레드가 갱신)
+    private final Set<Integer> heldOrdinals = ConcurrentHashMap.newKeySet();
+
+    // 예약 ID -> 좌석 순번 (예약 ID 변경 시 잠금 보유 스레드가 갱신)
+    private final Map<Long, Set<Integer>> ordinalsByReservationId = new ConcurrentHashMap<>();
+
+    private MatchSeatStateTable(final Long matchId, final int size) {
+        this.matchId = matchId;
+        this.ordinalBySeatId = new HashMap<>(size * 2);
+        this.allocationIds = new long[size];
+        this.blockIds = new long[size];
+        this.seatIds = new long[size];
+        this.userIds = new long[size];
+        this.reservationIds = new long[size];
+        this.holdExpiresAtMicros = new long[size];
+        this.updatedAtMicros = new long[size];
+        this.words = new AtomicLongArray(size);
+    }
+
+    static MatchSeatStateTable of(final Long matchId, final List<Allocation> allocations) {
+        MatchSeatStateTable table = new MatchSeatStateTable(matchId, allocations.size());
+        for (int ordinal = 0; ordinal < allocations.size(); ordinal++) {
+            Allocation allocation = allocations.get(ordinal);
+            table.ordinalBySeatId.put(allocation.getSeatId(), ordinal);
+            table.allocationIds[ordinal] = allocation.getId();
+            table.blockIds[ordinal] = allocation.getBlockId();
+            table.seatIds[ordinal] = allocation.getSeatId();
+            table.writeFields(ordinal, allocation);
+            table.words.set(ordinal, allocation.getState().ordinal());
+            if (allocation.getState() == AllocationState.HOLD) {
+                table.heldOrdinals.add(ordinal);
+            }
+            table.indexReservation(ordinal, null, allocation.getReservationId());
+        }
+        return table;
+    }
+
+    Long getMatchId() {
+        return matchId;
+    }
+
+    int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * @return 좌석 순번, 이 경기에 해당 좌석이 없으면 -1
+     */
+    int ordinalOf(final Long seatId) {
+        Integer ordinal = ordinalBySeatId.get(seatId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 예약 ID 가 기록된 좌석 순번 스냅샷, 순번(좌석 ID) 오름차순 (후보 탐색용, 확정 전 반드시 잠금 후 재확인)
+     */
+    List<Integer> reservedOrdinals(final Long reservationId) {
+        Set<Integer> ordinals = ordinalsByReservationId.get(reservationId);
+        return ordinals != null ? ordinals.stream().sorted().toList() : List.of();
+    }
+
+    /**
+     * 잠금 없이 읽은 점유 가능 여부 (후보 탐색용, 확정 전 반드시 잠금 후 재확인)
+     */
+    boolean mayBeAvailable(final int ordinal, final LocalDateTime now) {
+        AllocationState state = STATES[(int) (words.get(ordinal) & STATE_MASK)];
+        if (state == AllocationState.AVAILABLE) {
+            return true;
+        }
+        long expiresAt = holdExpiresAtMicros[ordinal];
+        return state == AllocationState.HOLD && expiresAt != NONE && expiresAt < toMicros(now);
+    }
+
+    /**
+     * 점유(HOLD) 좌석 순번 스냅샷 (후보 탐색용, 확정 전 반드시 잠금 후 재확인)
+     */
+    List<Integer> heldOrdinals() {
+        return List.copyOf(heldOrdinals);
+    }
+
+    /**
+     * 잠금 없이 읽은 점유 만료 여부 (후보 탐색용, 확정 전 반드시 잠금 후 재확인)
+     */
+    boolean mayBeExpiredHold(final int ordinal, final LocalDateTime now) {
+        AllocationState state = STATES[(int) (words.get(ordinal) & STATE_MASK)];
+        long expiresAt = holdExpiresAtMicros[ordinal];
+        return state == AllocationState.HOLD && expiresAt != NONE && expiresAt < toMicros(now);
+    }
+
+    /**
+     * 잠금 비트를 CAS로 획득한다. 짧게 spin 후 park 하며, 제한 시간을 넘기면 실패한다.
+     */
+    void lock(final int ordinal) {
+        long deadline = System.nanoTime() + LOCK_TIMEOUT_NANOS;
+        for (int attempt = 0; ; attempt++) {
+            long word = words.get(ordinal);
+            if ((word & LOCKED_BIT) == 0 && words.compareAndSet(ordinal, word, word | LOCKED_BIT)) {
+                return;
+            }
+            if (attempt < SPIN_LIMIT) {
+                Thread.onSpinWait();
+            } else if (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            } else {
+                throw new CannotAcquireLockException(
+                        String.format("Seat %d lock timeout for match %d", seatIds[ordinal], matchId));
+            }
+        }
+    }
+
+    /**
+     * 잠금 비트를 기다리지 않고 한 번만 시도한다. (SKIP LOCKED 와 같은 용도)
+     *
+     * @return 잠금을 획득했으면 true
+     */
+    boolean tryLock(final int ordinal) {
+        long word = words.get(ordinal);
+        return (word & LOCKED_BIT) == 0 && words.compareAndSet(ordinal, word, word | LOCKED_BIT);
+    }
+
+    void unlock(final int ordinal) {
+        long word = words.get(ordinal);
+        words.set(ordinal, word & ~LOCKED_BIT);
+    }
+
+    /**
+     * 잠금을 보유한 상태에서 현재 값을 도메인 객체로 읽는다.
+     */
+    Allocation read(final int ordinal) {
+        long word = words.get(ordinal);
+        return Allocation.withId(
+                allocationIds[ordinal],
+                fromLong(userIds[ordinal]),
+                matchId,
+                blockIds[ordinal],
+                seatIds[ordinal],
+                fromLong(reservationIds[ordinal]),
+                STATES[(int) (word & STATE_MASK)],
+                fromMicros(holdExpiresAtMicros[ordinal]),
+                fromMicros(updatedAtMicros[ordinal]));
+    }
+
+    /**
+     * 잠금을 보유한 상태에서 새 값을 기록하고 상태 워드를 전이한다. (잠금은 유지)
+     */
+    void write(final int ordinal, final Allocation allocation) {
+        Long previousReservationId = fromLong(reservationIds[ordinal]);
+        writeFields(ordinal, allocation);
+        long word = words.get(ordinal);
+        long version = (word >>> VERSION_SHIFT) + 1;
+        long next = (version << VERSION_SHIFT) | LOCKED_BIT | allocation.getState().ordinal();
+        if (!words.compareAndSet(ordinal, word, next)) {
+            throw new IllegalStateException("Seat state word changed while locked: seatId=" + seatIds[ordinal]);
+        }
+        if (allocation.getState() == AllocationState.HOLD) {
+            heldOrdinals.add(ordinal);
+        } else {
+            heldOrdinals.remove(ordinal);
+        }
+        indexReservation(ordinal, previousReservationId, allocation.getReservationId());
+    }
+
+    private void indexReservation(final int ordinal, final Long previousReservationId, final Long reservationId) {
+        if (Objects.equals(previousReservationId, reservationId)) {
+            return;
+        }
+        // 같은 예약의 좌석들이 동시에 바뀌므로 키 단위 compute 로 추가/제거와 빈 집합 정리를 원자적으로 수행
+        if (previousReservationId != null) {
+            ordinalsByReservationId.computeIfPresent(previousReservationId, (id, ordinals) -> {
+                ordinals.remove(ordinal);
+                return ordinals.isEmpty() ? null : ordinals;
+            });
+        }
+        if (reservationId != null) {
+            ordinalsByReservationId.compute(reservationId, (id, ordinals) -> {
+                Set<Integer> updated = ordinals != null ? ordinals : ConcurrentHashMap.newKeySet();
+                updated.add(ordinal);
+                return updated;
+            });
+        }
+    }
+
+    private void writeFields(final int ordinal, final Allocation allocation) {
+        userIds[ordinal] = toLong(allocation.getUserId());
+        reservationIds[ordinal] = toLong(allocation.getReservationId());
+        holdExpiresAtMicros[ordinal] = toMicros(allocation.getHoldExpiresAt());
+        updatedAtMicros[ordinal] = toMicros(allocation.getUpdatedAt() != null
+                ? allocation.getUpdatedAt() : LocalDateTime.now());
+    }
+
+    private static long toLong(final Long value) {
+        return value != null ? value : NONE;
+    }
+
+    private static Long fromLong(final long value) {
+        return value != NONE ? value : null;
+    }
+
+    private static long toMicros(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NONE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(final long micros) {
+        if (micros == NONE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.ticketing.core.site.adapter.out.memory.status;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import lombok.RequiredArgsConstructor;
+
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationStatusPort;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
+
+/**
+ * CaffeineAllocationStatusSnapShotLoader - caffeine 전략 캐시 로더 (Refresh-Ahead)
+ *
+ * - 캐시 키 matchId:blockId:(n|d) 로 좌석 현황을 DB에서 적재
+ * - refreshAfterWrite 가 지나 조회된 키는 이전 값을 그대로 반환하고, 재적재는 별도 스레드에서 수행
+ * - 같은 키의 동시 미스는 Caffeine 이 한 번의 적재로 합침 (노드당 키별 DB 쿼리 1회)
+ */
+@Component
+@RequiredArgsConstructor
+public class CaffeineAllocationStatusSnapShotLoader implements CacheLoader<Object, Object> {
+
+    private final LoadAllocationStatusPort loadAllocationStatusPort;
+
+    @Override
+    public AllocationStatusSnapShot load(final Object key) {
+        String[] parts = key.toString().split(":");
+        Long matchId = Long.parseLong(parts[0]);
+        Long blockId = Long.parseLong(parts[1]);
+        if ("n".equals(parts[2])) {
+            return loadAllocationStatusPort.loadAllocationStatusSnapShotByMatchIdAndBlockIdWithJoin(matchId, blockId);
+        }
+        return loadAllocationStatusPort.loadAllocationStatusSnapShotByMatchIdAndBlockId(matchId, blockId);
+    }
+}
@@ -0,0 +1,256 @@
+package dev.ticketing.core.site.adapter.out.memory.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.adapter.out.persistence.allocation.AllocationRepository;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.LoadAllocationStatusViewPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.RecordAllocationStatusViewPort;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusBitmap;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChangedEvent;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
+
+/**
+ * InMemoryAllocationStatusViewAdapter - 경기/구간별 좌석 현황 뷰 (materialized 전략)
+ *
+ * - 경기 오픈 시 전체 구간 뷰를 생성하고, 좌석 상태 변경 이벤트(커밋 이후)로 해당 좌석만 갱신
+ * - 조회는 미리 만든 불변 스냅샷을 그대로 반환 (변경 이후 첫 조회에서만 구간 단위로 재구성)
+ * - 압축 조회(format=bitmap)는 미리 인코딩한 바이트 배열을 그대로 반환 (JSON 응답은 요청마다 직렬화)
+ * - 좌석별로 updatedAt 이 더 오래된 이벤트는 무시 (커밋 순서와 이벤트 도착 순서가 다를 수 있음)
+ * - 재시작 등으로 뷰가 없는 구간은 최초 조회 시 DB에서 1회 적재 (같은 구간의 동시 조회는 적재를 기다림)
+ * - 뷰는 오픈된 경기의 존재하는 구간에만 만들고, 그 외 ID 조회는 뷰 없이 빈 결과를 반환 (임의 ID 로 맵이 커지지 않음)
+ *
+ * 뷰는 노드 메모리에 있으므로 다른 노드의 변경은 캐시 무효화 채널로 전달받아 해당 구간만 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryAllocationStatusViewAdapter implements LoadAllocationStatusViewPort, RecordAllocationStatusViewPort {
+
+    private final AllocationRepository allocationRepository;
+
+    // matchId:blockId -> 구간 뷰
+    private final Map<String, BlockView> views = new ConcurrentHashMap<>();
+
+    // sparse 저장 모드에서는 할당 행이 없는 좌석을 좌석 목록과 합쳐 AVAILABLE 로 채움
+    @Value("${seat.allocation.storage:dense}")
+    private String storage;
+
+    @Override
+    public AllocationStatusSnapShot loadAllocationStatusView(final Long matchId, final Long blockId) {
+        BlockView view = findOrCreateView(matchId, blockId);
+        if (view == null) {
+            return AllocationStatusSnapShot.from(List.of());
+        }
+        return view.snapshot(blockLoader(matchId, blockId));
+    }
+
+    @Override
+    public AllocationStatusBitmap loadAllocationStatusBitmapView(final Long matchId, final Long blockId,
+            final Long version, final LocalDateTime now) {
+        BlockView view = findOrCreateView(matchId, blockId);
+        if (view == null) {
+            return AllocationStatusBitmap.of(version, List.of(), now);
+        }
+        return view.bitmap(view.snapshot(blockLoader(matchId, blockId)), version, now);
+    }
+
+    @Override
+    public void recordAllocationStatusView(final Long matchId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buildMatchViews(matchId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buildMatchViews(matchId);
+            }
+        });
+    }
+
+    @Override
+    public void recordAllocationStatusViewInvalidation(final Long matchId, final Long blockId) {
+        BlockView view = views.get(buildKey(matchId, blockId));
+        if (view != null) {
+            view.invalidate();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationStatusChanged(final AllocationStatusChangedEvent event) {
+        AllocationStatus status = event.status();
+        // 아직 조회된 적 없는 구간은 갱신하지 않음 (최초 조회 시 DB에서 최신 상태로 적재)
+        BlockView view = views.get(buildKey(status.matchId(), status.blockId()));
+        if (view != null) {
+            view.apply(status);
+        }
+    }
+
+    private void buildMatchViews(final Long matchId) {
+        List<AllocationStatus> matchStatuses = "sparse".equals(storage)
+                ? allocationRepository.findAllocationStatusesBySeatsOfMatch(matchId)
+                : allocationRepository.findAllocationsByMatchId(matchId).stream().map(AllocationStatus::from).toList();
+        Map<Long, List<AllocationStatus>> statusesByBlock = matchStatuses.stream()
+                .collect(Collectors.groupingBy(AllocationStatus::blockId));
+
+        statusesByBlock.forEach((blockId, statuses) -> {
+            BlockView view = new BlockView();
+            view.snapshot(() -> statuses);
+            views.put(buildKey(matchId, blockId), view);
+        });
+        log.info("좌석 현황 뷰 생성: matchId={}, 구간 수={}", matchId, statusesByBlock.size());
+    }
+
+    /**
+     * @return 오픈된 경기의 구간이 아니면 null (뷰를 만들지 않음)
+     */
+    private BlockView findOrCreateView(final Long matchId, final Long blockId) {
+        String key = buildKey(matchId, blockId);
+        BlockView view = views.get(key);
+        if (view != null) {
+            return view;
+        }
+        if (!allocationRepository.existsOpenMatchBlock(matchId, blockId)) {
+            return null;
+        }
+        return views.computeIfAbsent(key, k -> new BlockView());
+    }
+
+    private Supplier<List<AllocationStatus>> blockLoader(final Long matchId, final Long blockId) {
+        return () -> "sparse".equals(storage)
+                ? allocationRepository.findAllocationStatusesBySeatsOfBlock(matchId, blockId)
+                : allocationRepository.findAllocationStatusesByMatchIdAndBlockId(matchId, blockId);
+    }
+
+    private String buildKey(final Long matchId, final Long blockId) {
+        return matchId + ":" + blockId;
+    }
+
+    /**
+     * 구간 뷰
+     * - 적재 전 도착한 이벤트는 보관했다가 적재 직후 순서대로 반영
+     * - 변경 시 스냅샷을 버리고, 다음 조회에서 한 번만 다시 만든다
+     * - 비트맵은 만든 스냅샷에 묶어 두므로 스냅샷이 바뀌면 자동으로 다시 인코딩된다
+     * - 잠금을 쥔 채 DB 적재를 하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드의 캐리어 고정 방지)
+     */
+    private static final class BlockView {
+
+        private final Map<Long, AllocationStatus> statusBySeatId = new TreeMap<>();
+        private final List<AllocationStatus> pending = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean loaded;
+        private volatile AllocationStatusSnapShot snapshot;
+        private volatile EncodedBitmap encoded;
+
+        AllocationStatusSnapShot snapshot(final Supplier<List<AllocationStatus>> loader) {
+            AllocationStatusSnapShot current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            lock.lock();
+            try {
+                if (snapshot != null) {
+                    return snapshot;
+                }
+                if (!loaded) {
+                    statusBySeatId.clear();
+                    loader.get().forEach(status -> statusBySeatId.put(status.seatId(), status));
+                    pending.forEach(this::put);
+                    pending.clear();
+                    loaded = true;
+                }
+                snapshot = AllocationStatusSnapShot.from(List.copyOf(statusBySeatId.values()));
+                return snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void apply(final AllocationStatus status) {
+            lock.lock();
+            try {
+                if (!loaded) {
+                    pending.add(status);
+                    return;
+                }
+                if (put(status)) {
+                    snapshot = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void invalidate() {
+            lock.lock();
+            try {
+                loaded = false;
+                snapshot = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        AllocationStatusBitmap bitmap(final AllocationStatusSnapShot source, final Long version,
+                final LocalDateTime now) {
+            EncodedBitmap current = encoded;
+            if (current == null || current.source() != source || current.isExpired(now)) {
+                current = EncodedBitmap.of(source, now);
+                encoded = current;
+            }
+            return new AllocationStatusBitmap(version, current.seatCount(), current.bitmap());
+        }
+
+        // 같은 좌석의 더 최근 상태가 이미 반영되어 있으면 무시
+        private boolean put(final AllocationStatus status) {
+            AllocationStatus current = statusBySeatId.get(status.seatId());
+            if (current != null && current.updatedAt() != null && status.updatedAt() != null
+                    && status.updatedAt().isBefore(current.updatedAt())) {
+                return false;
+            }
+            statusBySeatId.put(status.seatId(), status);
+            return true;
+        }
+    }
+
+    /**
+     * 스냅샷을 인코딩한 비트맵 (가장 먼저 만료되는 점유 시각까지 유효)
+     */
+    private record EncodedBitmap(AllocationStatusSnapShot source, int seatCount, byte[] bitmap,
+            LocalDateTime validUntil) {
+
+        static EncodedBitmap of(final AllocationStatusSnapShot source, final LocalDateTime now) {
+            AllocationStatusBitmap bitmap = AllocationStatusBitmap.of(null, source.allocationStatuses(), now);
+            LocalDateTime validUntil = source.allocationStatuses().stream()
+                    .filter(status -> status.state() == AllocationState.HOLD && status.holdExpiresAt() != null)
+                    .map(AllocationStatus::holdExpiresAt)
+                    .filter(expiresAt -> expiresAt.isAfter(now))
+                    .min(LocalDateTime::compareTo)
+                    .orElse(null);
+            return new EncodedBitmap(source, bitmap.seatCount(), bitmap.bitmap(), validUntil);
+        }
+
+        boolean isExpired(final LocalDateTime now) {
+            return validUntil != null && !now.isBefore(validUntil);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import dev.ticketing.core.reservation.adapter.out.persistence.ReservationEntity;
 import dev.ticketing.core.site.adapter.out.persistence.hierarchy.entity.BlockEntity;
@@ -32,6 +33,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_match_seat_unique", columnList = "match_id, seat_id", unique = true),
         @Index(name = "idx_match_block", columnList = "match_id, block_id"),
         @Index(name = "idx_match_block_updated", columnList = "match_id, block_id, updatedAt"),
+        @Index(name = "idx_match_change_seq", columnList = "match_id, change_seq"),
         @Index(name = "idx_reservation_id", columnList = "reservation_id")
 })
 @Entity
@@ -41,7 +43,8 @@ import java.time.LocalDateTime;
 public class AllocationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "allocations_seq")
+    @SequenceGenerator(name = "allocations_seq", sequenceName = "allocations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -72,6 +75,10 @@ public class AllocationEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 변경 순번: 쓰기 트랜잭션의 커밋 직전에 경기별 순번으로 부여 (schema.sql 의 지연 트리거, 엔티티는 쓰지 않음)
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @PrePersist
     @PreUpdate
     public void updateTimestamp() {
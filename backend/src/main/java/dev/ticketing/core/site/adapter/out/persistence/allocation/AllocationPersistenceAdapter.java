@@ -3,35 +3,48 @@ package dev.ticketing.core.site.adapter.out.persistence.allocation;
 import dev.ticketing.core.site.adapter.out.persistence.hierarchy.repository.SeatRepository;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationPort;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationStatusPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LockAllocationPort;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
 import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
-@Primary
 @Component
 @RequiredArgsConstructor
 public class AllocationPersistenceAdapter
-        implements RecordAllocationPort, LoadAllocationPort, LoadAllocationStatusPort {
+        implements RecordAllocationPort, LoadAllocationPort, LoadAllocationStatusPort, LockAllocationPort {
 
     private final AllocationRepository allocationRepository;
     private final SeatRepository seatRepository;
 
+    // dense: 경기 오픈 시 전체 좌석 행 생성 / sparse: 점유 이후의 좌석만 행을 가짐 (행이 없으면 AVAILABLE)
+    @Value("${seat.allocation.storage:dense}")
+    private String storage;
+
     // --- Load Allocation Status ---
 
     // Allocation Status Snap Shot
 
     @Override
     public AllocationStatusSnapShot loadAllocationStatusSnapShotByMatchIdAndBlockId(Long matchId, Long blockId) {
-        List<AllocationStatus> allocationStatuses = allocationRepository
-                .findAllocationStatusesByMatchIdAndBlockId(matchId, blockId);
+        List<AllocationStatus> allocationStatuses = isSparse()
+                ? allocationRepository.findAllocationStatusesBySeatsOfBlock(matchId, blockId)
+                : allocationRepository.findAllocationStatusesByMatchIdAndBlockId(matchId, blockId);
         return AllocationStatusSnapShot.from(allocationStatuses);
     }
 
@@ -57,13 +70,145 @@ public class AllocationPersistenceAdapter
         allocationRepository.saveAll(entities);
     }
 
+    @Override
+    public int recordAvailableAllocationsForMatch(Long matchId) {
+        if (isSparse()) {
+            return 0;
+        }
+        return allocationRepository.insertAvailableByMatchId(matchId, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<Allocation> recordAllocationHoldIfAvailable(Long userId, Long matchId, Long seatId,
+            LocalDateTime expiresAt, LocalDateTime now) {
+        Optional<AllocationRow> held = allocationRepository.holdByMatchIdAndSeatIdIfAvailable(
+                userId, matchId, seatId, expiresAt, now);
+        if (held.isEmpty() && isSparse()) {
+            // 희소 저장 모드: 행이 없는 좌석만 HOLD 로 생성 (행이 있는데 0건이면 점유 불가)
+            held = allocationRepository.insertHoldByMatchIdAndSeatIdIfAbsent(userId, matchId, seatId, expiresAt, now);
+        }
+        return held.map(AllocationRow::toDomain);
+    }
+
+    @Override
+    public List<Allocation> recordExpiredHoldReleases(LocalDateTime now, int limit) {
+        return allocationRepository.releaseExpiredHolds(now, limit).stream()
+                .map(AllocationRow::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> recordExpiredHoldReleases(Long matchId, Collection<Long> seatIds, LocalDateTime now) {
+        return allocationRepository.releaseExpiredHoldsByMatchIdAndSeatIdIn(matchId, seatIds, now).stream()
+                .map(AllocationRow::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void recordAllocationHolds(Long userId, Long matchId, Collection<Long> seatIds, LocalDateTime expiresAt) {
+        allocationRepository.holdAllByMatchIdAndSeatIdIn(userId, matchId, seatIds, expiresAt, LocalDateTime.now());
+    }
+
+    @Override
+    public void recordAllocationOccupations(Long matchId, Collection<Long> seatIds) {
+        allocationRepository.occupyAllByMatchIdAndSeatIdIn(matchId, seatIds, LocalDateTime.now());
+    }
+
+    @Override
+    public List<Allocation> recordReservationHoldExtensions(Long reservationId, LocalDateTime expiresAt,
+            LocalDateTime now) {
+        return allocationRepository.extendHoldsByReservationId(reservationId, expiresAt, now).stream()
+                .map(AllocationRow::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> recordReservationHoldRestorations(Long reservationId, LocalDateTime expiresAt,
+            LocalDateTime now) {
+        return allocationRepository.restoreHoldsByReservationId(reservationId, expiresAt, now).stream()
+                .map(AllocationRow::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> recordReservationOccupations(Long reservationId) {
+        return allocationRepository.occupyAllByReservationId(reservationId, LocalDateTime.now()).stream()
+                .map(AllocationRow::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int recordReservationAssignments(Long reservationId, Long userId, Long matchId, Collection<Long> seatIds,
+            LocalDateTime now) {
+        return allocationRepository.assignReservationByMatchIdAndSeatIdIn(reservationId, userId, matchId, seatIds, now);
+    }
+
+    // --- LockAllocationPort ---
+
+    // DB 엔진은 트랜잭션 안의 행 잠금(FOR UPDATE)으로 좌석을 잠그므로 미리 잠글 것이 없음
+
+    @Override
+    public <T> T executeWithSeatLocks(Long matchId, Collection<Long> seatIds, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T executeWithReservationSeatLocks(Long reservationId, Supplier<T> action) {
+        return action.get();
+    }
+
     // --- LoadAllocationPort ---
 
     @Override
     public Optional<Allocation> loadAllocationByMatchAndSeatWithLock(Long matchId, Long seatId) {
+        if (isSparse()) {
+            allocationRepository.insertAvailableByMatchIdAndSeatIdIn(matchId, List.of(seatId), LocalDateTime.now());
+        }
         return allocationRepository.findByMatchIdAndSeatIdWithLock(matchId, seatId).map(AllocationEntity::toDomain);
     }
 
+    @Override
+    public List<Allocation> loadAllocationsByMatchAndSeatsWithLock(Long matchId, Collection<Long> seatIds) {
+        if (isSparse()) {
+            allocationRepository.insertAvailableByMatchIdAndSeatIdIn(matchId, seatIds, LocalDateTime.now());
+        }
+        return allocationRepository.findAllByMatchIdAndSeatIdInWithLock(matchId, seatIds).stream()
+                .map(AllocationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Allocation> loadAdjacentAvailableAllocationsWithSkipLock(Long matchId, Long blockId, int count,
+            LocalDateTime now, Collection<Long> excludedSeatIds) {
+        if (isSparse()) {
+            allocationRepository.insertAvailableByMatchIdAndBlockId(matchId, blockId, now);
+        }
+        // 후보는 잠금 없이 고르고 그 count 개만 잠금 (점유 가능 좌석 전체를 잠가 다른 배정 요청을 막지 않음)
+        // 빈 IN 목록은 SQL 오류이므로 존재하지 않는 좌석 ID(0)로 대신함
+        Set<Long> excluded = new HashSet<>(excludedSeatIds);
+        excluded.add(0L);
+        while (true) {
+            List<Long> candidateSeatIds = allocationRepository.findAdjacentAvailableSeatIds(matchId, blockId, count,
+                    now, excluded);
+            if (candidateSeatIds.size() < count) {
+                return List.of();
+            }
+            Map<Long, AllocationRow> lockedBySeatId = allocationRepository
+                    .findAvailableByMatchIdAndSeatIdInWithSkipLock(matchId, candidateSeatIds, now).stream()
+                    .collect(Collectors.toMap(AllocationRow::getSeatId, Function.identity()));
+            if (lockedBySeatId.size() == count) {
+                return candidateSeatIds.stream()
+                        .map(seatId -> lockedBySeatId.get(seatId).toDomain())
+                        .toList();
+            }
+            // 다른 요청이 먼저 잠갔거나 그 사이 점유된 좌석을 빼고 다시 고름 (제외 목록이 매번 늘어나므로 종료됨)
+            // 이번에 잠근 좌석은 트랜잭션 종료 시 해제되며, 다음 후보에 포함되면 그대로 사용
+            candidateSeatIds.stream()
+                    .filter(seatId -> !lockedBySeatId.containsKey(seatId))
+                    .forEach(excluded::add);
+        }
+    }
+
     @Override
     public List<Allocation> loadAllocationsByReservationId(Long reservationId) {
         return allocationRepository.findByReservationId(reservationId).stream()
@@ -71,6 +216,13 @@ public class AllocationPersistenceAdapter
                 .toList();
     }
 
+    @Override
+    public List<Allocation> loadHeldAllocations() {
+        return allocationRepository.findByStatus(AllocationState.HOLD).stream()
+                .map(AllocationEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public AllocationStatus status(Long matchId, Long seatId) {
         return allocationRepository.findByMatchIdAndSeatId(matchId, seatId)
@@ -83,8 +235,19 @@ public class AllocationPersistenceAdapter
                 });
     }
 
+    private boolean isSparse() {
+        return "sparse".equals(storage);
+    }
+
+    @Override
+    public Long loadLatestChangeSeq(Long matchId) {
+        return allocationRepository.findLatestChangeSeqByMatchId(matchId);
+    }
+
     @Override
-    public List<AllocationStatus> loadAllocationStatusesSince(Long matchId, Long blockId, LocalDateTime since) {
-        return allocationRepository.findAllocationStatusesByBlockIdAndUpdatedAtAfter(matchId, blockId, since);
+    public List<AllocationStatus> loadAllocationStatusesBetween(Long matchId, Collection<Long> blockIds,
+            Long afterChangeSeq, Long untilChangeSeq) {
+        return allocationRepository.findAllocationStatusesByMatchIdAndChangeSeqBetween(
+                matchId, blockIds, afterChangeSeq, untilChangeSeq);
     }
 }
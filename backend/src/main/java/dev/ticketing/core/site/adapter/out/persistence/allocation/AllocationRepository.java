@@ -1,23 +1,295 @@
 package dev.ticketing.core.site.adapter.out.persistence.allocation;
 
+import dev.ticketing.core.site.domain.allocation.AllocationState;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AllocationRepository extends JpaRepository<AllocationEntity, Long>, AllocationRepositoryQuery {
 
+    // 네이티브 쓰기 문장의 RETURNING 컬럼 (AllocationRow 프로젝션으로 받아 관리 엔티티를 만들지 않음)
+    String RETURNING_ALLOCATION_ROW = "RETURNING id, user_id AS \"userId\", match_id AS \"matchId\", "
+            + "block_id AS \"blockId\", seat_id AS \"seatId\", reservation_id AS \"reservationId\", status, "
+            + "hold_expires_at AS \"holdExpiresAt\", updated_at AS \"updatedAt\"";
+
+    // 만료 반환 조건: 결제 승인 진행 중(IN_PROGRESS)인 예약의 점유는 제외 (idx_payments_reservation_in_progress 사용)
+    // allocations 는 가장 가까운 FROM 절의 테이블을 가리키므로 서브쿼리 안에서도 그대로 사용
+    String NO_PAYMENT_IN_PROGRESS = "AND NOT EXISTS (SELECT 1 FROM payments p "
+            + "WHERE p.reservation_id = allocations.reservation_id AND p.status = 'IN_PROGRESS') ";
+
     List<AllocationEntity> findByReservationId(Long reservationId);
 
     Optional<AllocationEntity> findByMatchIdAndSeatId(Long matchId, Long seatId);
 
+    List<AllocationEntity> findByStatus(AllocationState status);
+
+    @Query("SELECT DISTINCT a.match.id FROM AllocationEntity a WHERE a.reservation.id = :reservationId")
+    List<Long> findMatchIdsByReservationId(@Param("reservationId") Long reservationId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM AllocationEntity a WHERE a.match.id = :matchId AND a.seat.id = :seatId")
     Optional<AllocationEntity> findByMatchIdAndSeatIdWithLock(@Param("matchId") Long matchId,
             @Param("seatId") Long seatId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AllocationEntity a WHERE a.match.id = :matchId AND a.seat.id IN :seatIds ORDER BY a.seat.id")
+    List<AllocationEntity> findAllByMatchIdAndSeatIdInWithLock(@Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds);
+
+    /**
+     * 점유 가능한 좌석만 한 문장으로 점유 (조건 불일치 시 0건, 행 잠금은 이 문장 동안만 유지)
+     */
+    @Query(value = "UPDATE allocations SET status = 'HOLD', user_id = :userId, reservation_id = NULL, "
+            + "hold_expires_at = :expiresAt, updated_at = :now "
+            + "WHERE match_id = :matchId AND seat_id = :seatId "
+            + "AND (status = 'AVAILABLE' OR (status = 'HOLD' AND hold_expires_at < :now)) "
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    Optional<AllocationRow> holdByMatchIdAndSeatIdIfAvailable(@Param("userId") Long userId,
+            @Param("matchId") Long matchId, @Param("seatId") Long seatId,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 희소 저장 모드의 단건 점유: 행이 없을 때만 HOLD 로 생성 (있으면 0건, 시퀀스 값도 소비하지 않음)
+     * - 행이 있는 좌석은 holdByMatchIdAndSeatIdIfAvailable 로 먼저 점유를 시도
+     */
+    @Query(value = "INSERT INTO allocations (id, match_id, block_id, seat_id, user_id, status, hold_expires_at, "
+            + "updated_at) "
+            + "SELECT nextval('allocations_seq'), :matchId, s.block_id, s.id, :userId, 'HOLD', :expiresAt, :now "
+            + "FROM seats s WHERE s.id = :seatId "
+            + "AND NOT EXISTS (SELECT 1 FROM allocations a WHERE a.match_id = :matchId AND a.seat_id = s.id) "
+            + "ON CONFLICT (match_id, seat_id) DO NOTHING "
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    Optional<AllocationRow> insertHoldByMatchIdAndSeatIdIfAbsent(@Param("userId") Long userId,
+            @Param("matchId") Long matchId, @Param("seatId") Long seatId,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 점유를 배치 단위로 반환 (idx_allocations_hold_expires_at 부분 인덱스 사용)
+     * - Postgres UPDATE 는 LIMIT 을 지원하지 않으므로 대상 행을 서브쿼리에서 SKIP LOCKED 로 골라 제한
+     * - 결제 승인 진행 중(IN_PROGRESS)인 예약의 점유는 승인 결과가 확정될 때까지 반환하지 않음
+     */
+    @Query(value = "UPDATE allocations SET status = 'AVAILABLE', user_id = NULL, reservation_id = NULL, "
+            + "hold_expires_at = NULL, updated_at = :now "
+            + "WHERE id IN (SELECT id FROM allocations WHERE status = 'HOLD' AND hold_expires_at < :now "
+            + NO_PAYMENT_IN_PROGRESS
+            + "ORDER BY hold_expires_at LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "AND status = 'HOLD' AND hold_expires_at < :now " + NO_PAYMENT_IN_PROGRESS
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    List<AllocationRow> releaseExpiredHolds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query(value = "UPDATE allocations SET status = 'AVAILABLE', user_id = NULL, reservation_id = NULL, "
+            + "hold_expires_at = NULL, updated_at = :now "
+            + "WHERE match_id = :matchId AND seat_id IN (:seatIds) AND status = 'HOLD' AND hold_expires_at < :now "
+            + NO_PAYMENT_IN_PROGRESS
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    List<AllocationRow> releaseExpiredHoldsByMatchIdAndSeatIdIn(@Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 연속 좌석 자동 배정 후보 탐색 (잠금 없음)
+     * - 같은 열에서 (좌석 번호 - 순번) 이 같으면 연속 구간
+     * - 길이가 count 이상인 첫 연속 구간의 앞 count 개 좌석 ID 를 반환 (열/번호 순)
+     * - excludedSeatIds 좌석은 후보에서 제외 (다른 요청이 잠근 좌석, Redis 점유에 실패한 좌석 등)
+     */
+    @Query(value = """
+            WITH available AS (
+                SELECT a.seat_id, s.row_number, s.seat_number
+                FROM allocations a JOIN seats s ON s.id = a.seat_id
+                WHERE a.match_id = :matchId AND a.block_id = :blockId
+                  AND (a.status = 'AVAILABLE' OR (a.status = 'HOLD' AND a.hold_expires_at < :now))
+                  AND a.seat_id NOT IN (:excludedSeatIds)
+            ), runs AS (
+                SELECT available.*,
+                       seat_number - ROW_NUMBER() OVER (PARTITION BY row_number ORDER BY seat_number) AS run_key
+                FROM available
+            ), sized AS (
+                SELECT runs.*,
+                       COUNT(*) OVER (PARTITION BY row_number, run_key) AS run_size,
+                       ROW_NUMBER() OVER (PARTITION BY row_number, run_key ORDER BY seat_number) AS run_pos
+                FROM runs
+            )
+            SELECT seat_id FROM sized
+            WHERE run_size >= :count AND run_pos <= :count
+            ORDER BY row_number, seat_number
+            LIMIT :count
+            """, nativeQuery = true)
+    List<Long> findAdjacentAvailableSeatIds(@Param("matchId") Long matchId, @Param("blockId") Long blockId,
+            @Param("count") int count, @Param("now") LocalDateTime now,
+            @Param("excludedSeatIds") Collection<Long> excludedSeatIds);
+
+    /**
+     * 지정한 좌석 중 점유 가능한 좌석만 잠금 (다른 트랜잭션이 잠근 행은 SKIP LOCKED 로 건너뜀)
+     * - 잠금 시점의 최신 행으로 조건을 다시 판정하므로 후보 탐색 이후 점유된 좌석은 반환하지 않음
+     */
+    @Query(value = """
+            SELECT id, user_id AS "userId", match_id AS "matchId", block_id AS "blockId", seat_id AS "seatId",
+                   reservation_id AS "reservationId", status, hold_expires_at AS "holdExpiresAt",
+                   updated_at AS "updatedAt"
+            FROM allocations
+            WHERE match_id = :matchId AND seat_id IN (:seatIds)
+              AND (status = 'AVAILABLE' OR (status = 'HOLD' AND hold_expires_at < :now))
+            ORDER BY seat_id
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AllocationRow> findAvailableByMatchIdAndSeatIdInWithSkipLock(@Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 경기 오픈 시 좌석 수만큼의 단건 INSERT 대신 INSERT ... SELECT 한 문장으로 AVAILABLE 행 생성
+     * - ID 는 allocations_seq 에서 50개 단위 구간(pooled-lo, AllocationEntity allocationSize 와 같음)을
+     *   행 50개마다 하나씩 받아 채움 (행마다 nextval 을 호출하면 한 행이 구간 하나를 통째로 소비)
+     * - 아래 희소 저장 모드 INSERT 들도 같은 방식이며, 이미 있는 좌석은 대상에서 빼므로 시퀀스 값을 소비하지 않음
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            WITH targets AS (
+                SELECT s.id AS seat_id, s.block_id, ROW_NUMBER() OVER (ORDER BY s.id) - 1 AS pos
+                FROM seats s
+                WHERE NOT EXISTS (SELECT 1 FROM allocations a WHERE a.match_id = :matchId AND a.seat_id = s.id)
+            ), id_blocks AS (
+                SELECT g AS block_no, nextval('allocations_seq') AS base
+                FROM generate_series(0, (SELECT (COUNT(*) + 49) / 50 - 1 FROM targets)) g
+            )
+            INSERT INTO allocations (id, match_id, block_id, seat_id, status, updated_at)
+            SELECT b.base + t.pos % 50, :matchId, t.block_id, t.seat_id, 'AVAILABLE', :now
+            FROM targets t JOIN id_blocks b ON b.block_no = t.pos / 50
+            ON CONFLICT (match_id, seat_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertAvailableByMatchId(@Param("matchId") Long matchId, @Param("now") LocalDateTime now);
+
+    /**
+     * 희소 저장 모드: 잠금 조회 전에 지정한 좌석의 AVAILABLE 행을 보장 (이미 있으면 건너뜀, 롤백 시 함께 사라짐)
+     */
+    @Modifying
+    @Query(value = """
+            WITH targets AS (
+                SELECT s.id AS seat_id, s.block_id, ROW_NUMBER() OVER (ORDER BY s.id) - 1 AS pos
+                FROM seats s
+                WHERE s.id IN (:seatIds)
+                  AND NOT EXISTS (SELECT 1 FROM allocations a WHERE a.match_id = :matchId AND a.seat_id = s.id)
+            ), id_blocks AS (
+                SELECT g AS block_no, nextval('allocations_seq') AS base
+                FROM generate_series(0, (SELECT (COUNT(*) + 49) / 50 - 1 FROM targets)) g
+            )
+            INSERT INTO allocations (id, match_id, block_id, seat_id, status, updated_at)
+            SELECT b.base + t.pos % 50, :matchId, t.block_id, t.seat_id, 'AVAILABLE', :now
+            FROM targets t JOIN id_blocks b ON b.block_no = t.pos / 50
+            ON CONFLICT (match_id, seat_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertAvailableByMatchIdAndSeatIdIn(@Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 희소 저장 모드: SKIP LOCKED 로 잠글 행이 있도록 구간의 AVAILABLE 행을 보장
+     */
+    @Modifying
+    @Query(value = """
+            WITH targets AS (
+                SELECT s.id AS seat_id, s.block_id, ROW_NUMBER() OVER (ORDER BY s.id) - 1 AS pos
+                FROM seats s
+                WHERE s.block_id = :blockId
+                  AND NOT EXISTS (SELECT 1 FROM allocations a WHERE a.match_id = :matchId AND a.seat_id = s.id)
+            ), id_blocks AS (
+                SELECT g AS block_no, nextval('allocations_seq') AS base
+                FROM generate_series(0, (SELECT (COUNT(*) + 49) / 50 - 1 FROM targets)) g
+            )
+            INSERT INTO allocations (id, match_id, block_id, seat_id, status, updated_at)
+            SELECT b.base + t.pos % 50, :matchId, t.block_id, t.seat_id, 'AVAILABLE', :now
+            FROM targets t JOIN id_blocks b ON b.block_no = t.pos / 50
+            ON CONFLICT (match_id, seat_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertAvailableByMatchIdAndBlockId(@Param("matchId") Long matchId, @Param("blockId") Long blockId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 잠금 조회한 좌석들을 한 문장으로 점유
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE allocations SET status = 'HOLD', user_id = :userId, reservation_id = NULL, "
+            + "hold_expires_at = :expiresAt, updated_at = :updatedAt "
+            + "WHERE match_id = :matchId AND seat_id IN (:seatIds)", nativeQuery = true)
+    int holdAllByMatchIdAndSeatIdIn(@Param("userId") Long userId, @Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds, @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 잠금 조회 후 확정 조건을 통과한 좌석들을 한 문장으로 확정
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE allocations SET status = 'OCCUPIED', hold_expires_at = NULL, "
+            + "updated_at = :updatedAt "
+            + "WHERE match_id = :matchId AND seat_id IN (:seatIds)", nativeQuery = true)
+    int occupyAllByMatchIdAndSeatIdIn(@Param("matchId") Long matchId, @Param("seatIds") Collection<Long> seatIds,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 예약 생성 시 사용자가 점유 중인 좌석에만 예약 ID를 기록 (좌석별 잠금 조회/저장 대신 한 문장)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE allocations SET reservation_id = :reservationId, updated_at = :now "
+            + "WHERE match_id = :matchId AND seat_id IN (:seatIds) AND user_id = :userId AND status = 'HOLD' "
+            + "AND (hold_expires_at IS NULL OR hold_expires_at >= :now)", nativeQuery = true)
+    int assignReservationByMatchIdAndSeatIdIn(@Param("reservationId") Long reservationId,
+            @Param("userId") Long userId, @Param("matchId") Long matchId,
+            @Param("seatIds") Collection<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 승인 시작 시 예약의 점유(만료 전) 좌석 만료 시각을 한 문장으로 연장 (더 늦은 만료 시각은 유지)
+     */
+    @Query(value = "UPDATE allocations SET hold_expires_at = GREATEST(hold_expires_at, :expiresAt), "
+            + "updated_at = :now "
+            + "WHERE reservation_id = :reservationId AND status = 'HOLD' "
+            + "AND (hold_expires_at IS NULL OR hold_expires_at >= :now) "
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    List<AllocationRow> extendHoldsByReservationId(@Param("reservationId") Long reservationId,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 승인 거절 시 예약의 점유 좌석 만료 시각을 연장 전으로 되돌림 (더 이른 만료 시각은 유지)
+     */
+    @Query(value = "UPDATE allocations SET hold_expires_at = :expiresAt, "
+            + "updated_at = :now "
+            + "WHERE reservation_id = :reservationId AND status = 'HOLD' AND hold_expires_at > :expiresAt "
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    List<AllocationRow> restoreHoldsByReservationId(@Param("reservationId") Long reservationId,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 반환 대상 중 결제 승인 진행 중(IN_PROGRESS)인 예약 ID (메모리 엔진의 만료 반환에서 제외)
+     */
+    @Query(value = "SELECT DISTINCT reservation_id FROM payments "
+            + "WHERE reservation_id IN (:reservationIds) AND status = 'IN_PROGRESS'", nativeQuery = true)
+    List<Long> findReservationIdsWithPaymentInProgress(@Param("reservationIds") Collection<Long> reservationIds);
+
+    /**
+     * 결제 확정 시 예약의 점유 좌석을 한 문장으로 확정 (좌석 수와 무관하게 1회 왕복)
+     */
+    @Query(value = "UPDATE allocations SET status = 'OCCUPIED', hold_expires_at = NULL, "
+            + "updated_at = :updatedAt "
+            + "WHERE reservation_id = :reservationId AND status = 'HOLD' "
+            + RETURNING_ALLOCATION_ROW, nativeQuery = true)
+    List<AllocationRow> occupyAllByReservationId(@Param("reservationId") Long reservationId,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 경기의 커밋된 마지막 변경 순번 (순번은 커밋 직전에 경기 행 잠금 아래에서 올리므로 이 값 이하는 모두 커밋됨)
+     */
+    @Query(value = "SELECT COALESCE((SELECT change_seq FROM matches WHERE id = :matchId), 0)", nativeQuery = true)
+    long findLatestChangeSeqByMatchId(@Param("matchId") Long matchId);
+
+    /**
+     * 오픈된 경기와 존재하는 구간인지 확인 (없는 ID 로 조회 상태를 만들지 않기 위한 검사)
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM matches m, blocks b "
+            + "WHERE m.id = :matchId AND m.status = 'OPEN' AND b.id = :blockId)", nativeQuery = true)
+    boolean existsOpenMatchBlock(@Param("matchId") Long matchId, @Param("blockId") Long blockId);
+
 }
@@ -1,8 +1,9 @@
 package dev.ticketing.core.site.adapter.out.persistence.allocation;
 
+import dev.ticketing.core.site.domain.allocation.Allocation;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AllocationRepositoryQuery {
@@ -14,7 +15,25 @@ public interface AllocationRepositoryQuery {
      */
     List<AllocationStatus> findAllocationStatusesByMatchIdAndBlockIdWithJoin(Long matchId, Long blockId);
 
-    List<AllocationStatus> findAllocationStatusesByBlockIdAndUpdatedAtAfter(
-            Long matchId, Long blockId, LocalDateTime since);
+    /**
+     * 경기 단위 변경분 조회 (idx_match_change_seq 범위 스캔, 구독 중인 구간만 반환)
+     */
+    List<AllocationStatus> findAllocationStatusesByMatchIdAndChangeSeqBetween(
+            Long matchId, Collection<Long> blockIds, Long afterChangeSeq, Long untilChangeSeq);
+
+    /**
+     * 경기의 전체 좌석 할당 (메모리 엔진 적재용, 좌석 ID 순)
+     */
+    List<Allocation> findAllocationsByMatchId(Long matchId);
+
+    /**
+     * 구간의 전체 좌석 기준 현황 (희소 저장 모드, 할당 행이 없는 좌석은 AVAILABLE)
+     */
+    List<AllocationStatus> findAllocationStatusesBySeatsOfBlock(Long matchId, Long blockId);
+
+    /**
+     * 경기의 전체 좌석 기준 현황 (희소 저장 모드, 할당 행이 없는 좌석은 AVAILABLE)
+     */
+    List<AllocationStatus> findAllocationStatusesBySeatsOfMatch(Long matchId);
 
 }
@@ -1,13 +1,17 @@
 package dev.ticketing.core.site.adapter.out.persistence.allocation;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import dev.ticketing.core.site.domain.allocation.Allocation;
 import dev.ticketing.core.site.domain.allocation.AllocationState;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 import lombok.RequiredArgsConstructor;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import static dev.ticketing.core.site.adapter.out.persistence.allocation.QAllocationEntity.allocationEntity;
 import static dev.ticketing.core.site.adapter.out.persistence.hierarchy.entity.QSeatEntity.seatEntity;
@@ -55,8 +59,8 @@ public class AllocationRepositoryQueryImpl implements AllocationRepositoryQuery
     }
 
     @Override
-    public List<AllocationStatus> findAllocationStatusesByBlockIdAndUpdatedAtAfter(
-            Long matchId, Long blockId, LocalDateTime since) {
+    public List<AllocationStatus> findAllocationStatusesByMatchIdAndChangeSeqBetween(
+            Long matchId, Collection<Long> blockIds, Long afterChangeSeq, Long untilChangeSeq) {
         return queryFactory
                 .select(Projections.constructor(AllocationStatus.class,
                         allocationEntity.id,
@@ -69,8 +73,79 @@ public class AllocationRepositoryQueryImpl implements AllocationRepositoryQuery
                 .from(allocationEntity)
                 .where(
                         allocationEntity.match.id.eq(matchId),
-                        allocationEntity.block.id.eq(blockId),
-                        allocationEntity.updatedAt.after(since))
+                        allocationEntity.changeSeq.gt(afterChangeSeq),
+                        allocationEntity.changeSeq.loe(untilChangeSeq),
+                        allocationEntity.block.id.in(blockIds))
                 .fetch();
     }
+
+    @Override
+    public List<Allocation> findAllocationsByMatchId(Long matchId) {
+        List<Tuple> rows = queryFactory
+                .select(
+                        allocationEntity.id,
+                        allocationEntity.user.id,
+                        allocationEntity.match.id,
+                        allocationEntity.block.id,
+                        allocationEntity.seat.id,
+                        allocationEntity.reservation.id,
+                        allocationEntity.status,
+                        allocationEntity.holdExpiresAt,
+                        allocationEntity.updatedAt)
+                .from(allocationEntity)
+                .where(allocationEntity.match.id.eq(matchId))
+                .orderBy(allocationEntity.seat.id.asc())
+                .fetch();
+
+        return rows.stream()
+                .map(row -> Allocation.withId(
+                        row.get(allocationEntity.id),
+                        row.get(allocationEntity.user.id),
+                        row.get(allocationEntity.match.id),
+                        row.get(allocationEntity.block.id),
+                        row.get(allocationEntity.seat.id),
+                        row.get(allocationEntity.reservation.id),
+                        row.get(allocationEntity.status),
+                        row.get(allocationEntity.holdExpiresAt),
+                        row.get(allocationEntity.updatedAt)))
+                .toList();
+    }
+
+    @Override
+    public List<AllocationStatus> findAllocationStatusesBySeatsOfBlock(Long matchId, Long blockId) {
+        return findAllocationStatusesBySeats(matchId, seatEntity.block.id.eq(blockId));
+    }
+
+    @Override
+    public List<AllocationStatus> findAllocationStatusesBySeatsOfMatch(Long matchId) {
+        return findAllocationStatusesBySeats(matchId, null);
+    }
+
+    private List<AllocationStatus> findAllocationStatusesBySeats(Long matchId, BooleanExpression seatCondition) {
+        List<Tuple> rows = queryFactory
+                .select(
+                        allocationEntity.id,
+                        seatEntity.block.id,
+                        seatEntity.id,
+                        allocationEntity.status,
+                        allocationEntity.holdExpiresAt,
+                        allocationEntity.updatedAt)
+                .from(seatEntity)
+                .leftJoin(allocationEntity)
+                .on(allocationEntity.seat.id.eq(seatEntity.id), allocationEntity.match.id.eq(matchId))
+                .where(seatCondition)
+                .orderBy(seatEntity.id.asc())
+                .fetch();
+
+        return rows.stream()
+                .map(row -> new AllocationStatus(
+                        row.get(allocationEntity.id),
+                        matchId,
+                        row.get(seatEntity.block.id),
+                        row.get(seatEntity.id),
+                        Optional.ofNullable(row.get(allocationEntity.status)).orElse(AllocationState.AVAILABLE),
+                        row.get(allocationEntity.holdExpiresAt),
+                        row.get(allocationEntity.updatedAt)))
+                .toList();
+    }
 }
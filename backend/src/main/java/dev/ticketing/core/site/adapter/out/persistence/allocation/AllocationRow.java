@@ -0,0 +1,46 @@
+package dev.ticketing.core.site.adapter.out.persistence.allocation;
+
+import java.time.LocalDateTime;
+
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+
+/**
+ * AllocationRow - 네이티브 조회/RETURNING 결과 프로젝션
+ * 관리 엔티티를 만들지 않으므로 같은 트랜잭션의 영속성 컨텍스트에 남은 엔티티와 충돌하지 않는다.
+ * (컬럼 별칭은 AllocationRepository.RETURNING_ALLOCATION_ROW 와 같이 따옴표로 감싼 camelCase 를 사용)
+ */
+public interface AllocationRow {
+
+    Long getId();
+
+    Long getUserId();
+
+    Long getMatchId();
+
+    Long getBlockId();
+
+    Long getSeatId();
+
+    Long getReservationId();
+
+    String getStatus();
+
+    LocalDateTime getHoldExpiresAt();
+
+    LocalDateTime getUpdatedAt();
+
+    default Allocation toDomain() {
+        return Allocation.withId(
+                getId(),
+                getUserId(),
+                getMatchId(),
+                getBlockId(),
+                getSeatId(),
+                getReservationId(),
+                AllocationState.valueOf(getStatus()),
+                getHoldExpiresAt(),
+                getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package dev.ticketing.core.site.adapter.out.redis.allocation;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.UpdateAllocationStatusPort;
+import dev.ticketing.core.site.domain.allocation.AllocationHoldResult;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+
+/**
+ * RedisAllocationStatusAdapter - Redis Lua Script 기반 좌석 상태 Compare-And-Set
+ *
+ * Redis 데이터 구조 (경기/좌석 단위 키, 같은 해시 슬롯을 쓰도록 hash tag 사용)
+ * - seat:status:{matchId:seatId} = AllocationState (HOLD는 TTL, OCCUPIED는 영구)
+ * - seat:owner:{matchId:seatId}  = userId (HOLD와 같은 TTL)
+ *
+ * 키가 없으면 AVAILABLE 로 간주하므로 TTL 만료가 곧 점유 해제가 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisAllocationStatusAdapter implements UpdateAllocationStatusPort {
+
+    /**
+     * KEYS[1]=status, KEYS[2]=owner / ARGV[1]=expected('' 이면 체크 안 함), ARGV[2]=new, ARGV[3]=ttl ms('' 이면 영구)
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1]) or 'AVAILABLE'
+            if ARGV[1] ~= '' and current ~= ARGV[1] then
+                return 0
+            end
+            if ARGV[2] == 'AVAILABLE' then
+                redis.call('DEL', KEYS[1], KEYS[2])
+            elseif ARGV[3] ~= '' then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            else
+                redis.call('SET', KEYS[1], ARGV[2])
+                redis.call('PERSIST', KEYS[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=status, KEYS[2]=owner / ARGV[1]=userId, ARGV[2]=ttl ms
+     */
+    private static final RedisScript<String> HOLD_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current == 'OCCUPIED' then
+                return 'OCCUPIED'
+            end
+            if current == 'HOLD' then
+                if redis.call('GET', KEYS[2]) == ARGV[1] then
+                    return 'ALREADY_HELD_BY_USER'
+                end
+                return 'HELD_BY_OTHER'
+            end
+            redis.call('SET', KEYS[1], 'HOLD', 'PX', ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+            return 'HELD'
+            """, String.class);
+
+    /**
+     * KEYS[1]=status, KEYS[2]=owner / ARGV[1]=userId
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= 'HOLD' or redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean updateAllocationStatusAtomicWithTTL(
+            final Long matchId,
+            final Long seatId,
+            final AllocationState expectedStatus,
+            final AllocationState newStatus,
+            final Duration ttl) {
+        Long updated = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, keys(matchId, seatId),
+                expectedStatus != null ? expectedStatus.name() : "",
+                newStatus.name(),
+                ttl != null ? String.valueOf(ttl.toMillis()) : "");
+        return updated != null && updated == 1L;
+    }
+
+    @Override
+    public boolean updateAllocationStatusAtomic(final Long matchId, final Long seatId,
+            final AllocationState expectedStatus, final AllocationState newStatus) {
+        return updateAllocationStatusAtomicWithTTL(matchId, seatId, expectedStatus, newStatus, null);
+    }
+
+    @Override
+    public void updateAllocationStatus(final Long matchId, final Long seatId, final AllocationState newStatus) {
+        if (newStatus == AllocationState.AVAILABLE) {
+            redisTemplate.delete(keys(matchId, seatId));
+            return;
+        }
+        updateAllocationStatusAtomicWithTTL(matchId, seatId, null, newStatus, null);
+    }
+
+    @Override
+    public AllocationHoldResult holdAllocationStatusAtomic(final Long userId, final Long matchId, final Long seatId,
+            final Duration ttl) {
+        String result = redisTemplate.execute(HOLD_SCRIPT, keys(matchId, seatId),
+                String.valueOf(userId), String.valueOf(ttl.toMillis()));
+        log.debug("Redis hold: userId={}, matchId={}, seatId={}, result={}", userId, matchId, seatId, result);
+        return AllocationHoldResult.valueOf(result);
+    }
+
+    @Override
+    public boolean releaseAllocationStatusAtomic(final Long userId, final Long matchId, final Long seatId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, keys(matchId, seatId), String.valueOf(userId));
+        return released != null && released == 1L;
+    }
+
+    @Override
+    public void removeTTL(final Long matchId, final Long seatId) {
+        List<String> keys = keys(matchId, seatId);
+        keys.forEach(redisTemplate::persist);
+    }
+
+    private List<String> keys(final Long matchId, final Long seatId) {
+        String tag = "{" + matchId + ":" + seatId + "}";
+        return List.of("seat:status:" + tag, "seat:owner:" + tag);
+    }
+}
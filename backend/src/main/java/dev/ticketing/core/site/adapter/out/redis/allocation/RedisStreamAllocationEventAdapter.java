@@ -0,0 +1,128 @@
+package dev.ticketing.core.site.adapter.out.redis.allocation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.LoadAllocationEventPort;
+import dev.ticketing.core.site.domain.allocation.AllocationBlockKey;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+
+/**
+ * RedisStreamAllocationEventAdapter - 좌석 상태 변경 이벤트를 Redis Stream에서 구독
+ *
+ * - 스트림 키: seat:events:{matchId}:{blockId} (구간 단위로 구독자가 분리됨)
+ * - 발행은 stream 모드에서만 등록되는 {@link RedisStreamAllocationEventPublisher} 가 담당
+ * - 노드마다 모든 이벤트가 필요하므로 Consumer Group 없이 XREAD 로 읽고, 마지막으로 읽은 ID는 노드 메모리에 보관
+ *   (Redis 에 노드별 상태가 남지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamAllocationEventAdapter implements LoadAllocationEventPort {
+
+    static final String STREAM_KEY_PREFIX = "seat:events:";
+    static final String FIELD_SEAT_ID = "seatId";
+    static final String FIELD_STATE = "state";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 스트림 키 -> 마지막으로 읽은 레코드 ID (구독 중인 구간만 유지)
+    private final Map<String, String> lastReadIds = new ConcurrentHashMap<>();
+
+    @Value("${seat.status.stream.read-count:500}")
+    private int readCount;
+
+    // 새 구독 시 이 시간만큼 과거 이벤트부터 읽음 (스냅샷 조회와 구독 시작 사이의 변경분 보정)
+    @Value("${seat.status.stream.lookback-ms:5000}")
+    private long lookbackMillis;
+
+    @Override
+    public void resetAllocationEventCursor(final AllocationBlockKey key) {
+        String streamKey = streamKey(key.matchId(), key.blockId());
+        // 이미 읽고 있는 구간이면 위치를 유지 (되돌리거나 건너뛰면 다른 구독자의 이벤트가 중복/누락됨)
+        String lastReadId = lastReadIds.computeIfAbsent(streamKey, k -> lookbackId());
+        log.info("좌석 상태 이벤트 구독 위치 설정: key={}, offset={}", streamKey, lastReadId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AllocationStatus> loadAllocationEvents(final Collection<AllocationBlockKey> keys) {
+        Set<String> streamKeys = keys.stream()
+                .map(key -> streamKey(key.matchId(), key.blockId()))
+                .collect(Collectors.toSet());
+        // 구독자가 모두 떠난 구간의 위치는 버림 (다음 첫 구독자가 새로 설정)
+        lastReadIds.keySet().retainAll(streamKeys);
+        if (streamKeys.isEmpty()) {
+            return List.of();
+        }
+
+        StreamOffset<String>[] offsets = streamKeys.stream()
+                .map(streamKey -> StreamOffset.create(streamKey,
+                        ReadOffset.from(lastReadIds.computeIfAbsent(streamKey, k -> lookbackId()))))
+                .toArray(StreamOffset[]::new);
+
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redisTemplate.opsForStream().read(StreamReadOptions.empty().count(readCount), offsets);
+        } catch (Exception e) {
+            // 읽은 위치는 그대로이므로 다음 주기에 같은 위치부터 다시 읽음
+            log.warn("좌석 상태 이벤트 읽기 실패: keys={}", streamKeys.size(), e);
+            return List.of();
+        }
+
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<AllocationStatus> events = new ArrayList<>(records.size());
+        Map<String, RecordId> lastIdsByStream = new HashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            String streamKey = record.getStream();
+            String[] ids = streamKey.substring(STREAM_KEY_PREFIX.length()).split(":");
+            Map<Object, Object> value = record.getValue();
+            events.add(new AllocationStatus(
+                    null,
+                    Long.parseLong(ids[0]),
+                    Long.parseLong(ids[1]),
+                    Long.parseLong((String) value.get(FIELD_SEAT_ID)),
+                    AllocationState.valueOf((String) value.get(FIELD_STATE)),
+                    null,
+                    null));
+            lastIdsByStream.put(streamKey, record.getId());
+        }
+
+        lastIdsByStream.forEach((streamKey, recordId) -> lastReadIds.put(streamKey, recordId.getValue()));
+
+        return events;
+    }
+
+    /**
+     * 현재 시각에서 lookback 만큼 이전의 레코드 ID (Stream ID 는 밀리초 타임스탬프 기반)
+     */
+    private String lookbackId() {
+        return Math.max(0, System.currentTimeMillis() - lookbackMillis) + "-0";
+    }
+
+    static String streamKey(final Long matchId, final Long blockId) {
+        return STREAM_KEY_PREFIX + matchId + ":" + blockId;
+    }
+}
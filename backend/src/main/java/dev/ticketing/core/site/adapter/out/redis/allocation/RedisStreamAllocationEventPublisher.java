@@ -0,0 +1,54 @@
+package dev.ticketing.core.site.adapter.out.redis.allocation;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChangedEvent;
+
+/**
+ * RedisStreamAllocationEventPublisher - 좌석 상태 변경 이벤트를 Redis Stream으로 발행 (seat.status.broadcast=stream)
+ *
+ * - 좌석 상태 변경 이벤트를 커밋 이후에 발행 (롤백된 변경은 발행하지 않음)
+ * - XADD MAXLEN ~ 한 번으로 추가와 길이 제한을 함께 처리하여 메모리 사용량을 고정
+ * - polling 모드에서는 구독자가 없으므로 등록하지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seat.status.broadcast", havingValue = "stream")
+@RequiredArgsConstructor
+public class RedisStreamAllocationEventPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${seat.status.stream.max-length:10000}")
+    private long maxLength;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationStatusChanged(final AllocationStatusChangedEvent event) {
+        AllocationStatus status = event.status();
+        String key = RedisStreamAllocationEventAdapter.streamKey(status.matchId(), status.blockId());
+        try {
+            redisTemplate.opsForStream().add(
+                    StreamRecords.string(Map.of(
+                            RedisStreamAllocationEventAdapter.FIELD_SEAT_ID, String.valueOf(status.seatId()),
+                            RedisStreamAllocationEventAdapter.FIELD_STATE, status.state().name()))
+                            .withStreamKey(key),
+                    XAddOptions.maxlen(maxLength).approximateTrimming(true));
+        } catch (Exception e) {
+            // DB 커밋은 이미 끝났으므로 호출자에게 전파하지 않음 (구독자는 재구독 시 스냅샷으로 복구)
+            log.error("좌석 상태 이벤트 발행 실패: matchId={}, blockId={}, seatId={}, status={}",
+                    status.matchId(), status.blockId(), status.seatId(), status.state(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.ticketing.core.site.adapter.out.redis.status;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChangedEvent;
+
+/**
+ * RedisAllocationStatusInvalidationAdapter - 좌석 현황 캐시 무효화 메시지 발행 (Redis Pub/Sub)
+ *
+ * 좌석 상태가 커밋되면 matchId:blockId:nodeId 를 발행하고, 모든 노드(자기 자신 포함)의
+ * AllocationStatusInvalidationListener 가 Redis/Caffeine 캐시를 제거한다.
+ * (nodeId 는 좌석 현황 뷰가 자기 노드의 변경을 다시 적재하지 않도록 구분하는 데 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisAllocationStatusInvalidationAdapter {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${seat.status.cache.invalidation-channel:seat:status:invalidation}")
+    private String channel;
+
+    @Value("${seat.status.stream.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationStatusChanged(final AllocationStatusChangedEvent event) {
+        AllocationStatus status = event.status();
+        try {
+            redisTemplate.convertAndSend(channel, status.matchId() + ":" + status.blockId() + ":" + nodeId);
+        } catch (Exception e) {
+            // 커밋은 이미 끝났으므로 전파하지 않음 (캐시는 TTL 만료로 복구)
+            log.error("좌석 현황 캐시 무효화 발행 실패: matchId={}, blockId={}", status.matchId(), status.blockId(), e);
+        }
+    }
+}
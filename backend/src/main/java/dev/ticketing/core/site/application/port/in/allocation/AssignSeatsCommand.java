@@ -0,0 +1,11 @@
+package dev.ticketing.core.site.application.port.in.allocation;
+
+/**
+ * 연속 좌석 자동 배정 Command
+ */
+public record AssignSeatsCommand(
+        Long userId,
+        Long matchId,
+        Long blockId,
+        int count) {
+}
@@ -0,0 +1,14 @@
+package dev.ticketing.core.site.application.port.in.allocation;
+
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import java.util.List;
+
+/**
+ * AssignSeatsUseCase - 연속 좌석 자동 배정 처리 포트
+ */
+public interface AssignSeatsUseCase {
+    /**
+     * 구간에서 같은 열에 연속된 좌석 count 개를 골라 점유
+     */
+    List<Allocation> assignSeats(AssignSeatsCommand command);
+}
@@ -0,0 +1,12 @@
+package dev.ticketing.core.site.application.port.in.allocation;
+
+import java.util.List;
+
+/**
+ * 여러 좌석 일괄 점유 Command
+ */
+public record HoldSeatsCommand(
+        Long userId,
+        Long matchId,
+        List<Long> seatIds) {
+}
@@ -0,0 +1,14 @@
+package dev.ticketing.core.site.application.port.in.allocation;
+
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import java.util.List;
+
+/**
+ * HoldSeatsUseCase - 여러 좌석 일괄 점유 처리 포트
+ */
+public interface HoldSeatsUseCase {
+    /**
+     * 여러 좌석 일괄 점유 (전부 점유하거나, 하나라도 실패하면 아무것도 점유하지 않음)
+     */
+    List<Allocation> holdSeats(HoldSeatsCommand command);
+}
@@ -0,0 +1,30 @@
+package dev.ticketing.core.site.application.port.in.allocation;
+
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ReleaseExpiredSeatsUseCase - 만료된 좌석 점유 반환 처리 포트
+ */
+public interface ReleaseExpiredSeatsUseCase {
+    /**
+     * 점유 만료 시각이 지난 좌석을 최대 batchSize 개 반환
+     *
+     * @return 반환한 좌석 수
+     */
+    int releaseExpiredSeats(int batchSize);
+
+    /**
+     * 지정한 좌석 중 점유 만료 시각이 지난 좌석만 반환 (타이밍 휠이 만료 시점에 호출)
+     *
+     * @return 반환한 좌석 수
+     */
+    int releaseExpiredSeats(Long matchId, Collection<Long> seatIds);
+
+    /**
+     * 현재 점유(HOLD) 중인 전체 좌석 (타이밍 휠 재구성용)
+     */
+    List<AllocationStatus> getHeldSeats();
+}
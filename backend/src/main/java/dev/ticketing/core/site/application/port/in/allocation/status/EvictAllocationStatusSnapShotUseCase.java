@@ -0,0 +1,14 @@
+package dev.ticketing.core.site.application.port.in.allocation.status;
+
+/**
+ * EvictAllocationStatusSnapShotUseCase - 좌석 현황 캐시 무효화 포트
+ * 좌석 상태가 바뀐 구간의 스냅샷 캐시(Redis, Caffeine)를 제거
+ */
+public interface EvictAllocationStatusSnapShotUseCase {
+    void evictAllocationStatusSnapShot(Long matchId, Long blockId);
+
+    /**
+     * 다른 노드에서 바뀐 구간의 좌석 현황 뷰 제거 (이 노드의 변경은 이벤트로 이미 반영됨)
+     */
+    void evictAllocationStatusView(Long matchId, Long blockId);
+}
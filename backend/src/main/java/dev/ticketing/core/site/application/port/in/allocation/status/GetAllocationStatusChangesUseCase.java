@@ -1,14 +1,15 @@
 package dev.ticketing.core.site.application.port.in.allocation.status;
 
-import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChanges;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Collection;
 
 /**
  * GetAllocationStatusChangesUseCase - 좌석 현황 변경분 조회 포트
- * 특정 시간 이후 변경된 좌석 상태만 조회 (서버 폴링용)
+ * 변경 순번 이후 변경된 좌석 상태만 조회 (서버 폴링용, 경기 단위 일괄 조회)
  */
 public interface GetAllocationStatusChangesUseCase {
-    List<AllocationStatus> getAllocationChangesSince(Long matchId, Long blockId, LocalDateTime since);
+    AllocationStatusChanges getAllocationChangesAfter(Long matchId, Collection<Long> blockIds, Long afterChangeSeq);
+
+    Long getLatestChangeSeq(Long matchId);
 }
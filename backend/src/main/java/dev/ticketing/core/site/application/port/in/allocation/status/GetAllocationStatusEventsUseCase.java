@@ -0,0 +1,17 @@
+package dev.ticketing.core.site.application.port.in.allocation.status;
+
+import dev.ticketing.core.site.domain.allocation.AllocationBlockKey;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * GetAllocationStatusEventsUseCase - 좌석 현황 변경 이벤트 조회 포트
+ * DB 조회 없이 이벤트 스트림에서 변경분을 가져옴 (Push 방식 브로드캐스트용)
+ */
+public interface GetAllocationStatusEventsUseCase {
+    void startAllocationEvents(AllocationBlockKey key);
+
+    List<AllocationStatus> getAllocationEvents(Collection<AllocationBlockKey> keys);
+}
@@ -2,11 +2,37 @@ package dev.ticketing.core.site.application.port.out.persistence.allocation;
 
 import dev.ticketing.core.site.domain.allocation.Allocation;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface LoadAllocationPort {
     Optional<Allocation> loadAllocationByMatchAndSeatWithLock(Long matchId, Long seatId);
 
+    /**
+     * 여러 좌석 할당을 한 번에 잠금 조회 (좌석 ID 순으로 잠가 교착 상태 방지)
+     */
+    List<Allocation> loadAllocationsByMatchAndSeatsWithLock(Long matchId, Collection<Long> seatIds);
+
+    /**
+     * 구간에서 같은 열에 연속된 점유 가능 좌석 count 개를 찾아 잠금 (다른 트랜잭션이 잠근 좌석은 건너뜀)
+     * - 잠금과 함께 좌석 할당을 반환하므로 다시 잠금 조회하지 않아도 됨
+     *
+     * @param matchId         경기 ID
+     * @param blockId         구간 ID
+     * @param count           좌석 수
+     * @param now             점유 만료 판정 기준 시각
+     * @param excludedSeatIds 후보에서 제외할 좌석 ID 목록 (Redis 점유에 실패한 좌석 등)
+     * @return 잠금을 획득한 좌석 할당 목록 (열/번호 순), 연속 좌석이 없으면 빈 목록
+     */
+    List<Allocation> loadAdjacentAvailableAllocationsWithSkipLock(Long matchId, Long blockId, int count,
+            LocalDateTime now, Collection<Long> excludedSeatIds);
+
     List<Allocation> loadAllocationsByReservationId(Long reservationId);
+
+    /**
+     * 점유(HOLD) 상태인 전체 좌석 할당 조회
+     */
+    List<Allocation> loadHeldAllocations();
 }
@@ -3,7 +3,7 @@ package dev.ticketing.core.site.application.port.out.persistence.allocation;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface LoadAllocationStatusPort {
@@ -25,12 +25,23 @@ public interface LoadAllocationStatusPort {
     AllocationStatus status(Long matchId, Long seatId);
 
     /**
-     * 특정 시간 이후 변경된 좌석 상태만 조회 (서버 폴링용)
+     * 경기에서 커밋된 가장 최근 변경 순번 조회
      *
      * @param matchId 경기 ID
-     * @param blockId 구간 ID
-     * @param since   마지막 확인 시간
+     * @return 최근 변경 순번 (변경분이 없으면 0)
+     */
+    Long loadLatestChangeSeq(Long matchId);
+
+    /**
+     * 변경 순번 구간 (afterChangeSeq, untilChangeSeq] 에 속하는 좌석 상태만 조회 (서버 폴링용)
+     * - 구독 중인 구간 수와 무관하게 경기당 쿼리 1번으로 조회
+     *
+     * @param matchId        경기 ID
+     * @param blockIds       구독 중인 구간 ID 목록
+     * @param afterChangeSeq 마지막으로 전송한 변경 순번
+     * @param untilChangeSeq 이번에 전송할 마지막 변경 순번
      * @return 변경된 좌석 상태 리스트
      */
-    List<AllocationStatus> loadAllocationStatusesSince(Long matchId, Long blockId, LocalDateTime since);
+    List<AllocationStatus> loadAllocationStatusesBetween(Long matchId, Collection<Long> blockIds,
+            Long afterChangeSeq, Long untilChangeSeq);
 }
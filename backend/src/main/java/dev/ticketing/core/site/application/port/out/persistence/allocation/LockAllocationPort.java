@@ -0,0 +1,38 @@
+package dev.ticketing.core.site.application.port.out.persistence.allocation;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 잠금 Port
+ * - DB 트랜잭션을 시작하기 전에 좌석 잠금을 먼저 획득하여, 잠금 대기가 DB 커넥션을 점유하지 않도록 한다
+ * - 행 잠금(FOR UPDATE)을 쓰는 DB 엔진은 미리 잠글 것이 없으므로 그대로 실행한다
+ */
+public interface LockAllocationPort {
+
+    /**
+     * 좌석들을 좌석 ID 순으로 잠근 뒤 작업을 실행하고, 작업이 끝나면 잠금을 해제한다
+     *
+     * @param matchId 경기 ID
+     * @param seatIds 좌석 ID 목록
+     * @param action  잠금을 보유한 채 실행할 작업 (보통 트랜잭션 전체)
+     * @return 작업 결과
+     */
+    <T> T executeWithSeatLocks(Long matchId, Collection<Long> seatIds, Supplier<T> action);
+
+    /**
+     * 예약에 배정된 좌석들을 잠근 뒤 작업을 실행하고, 작업이 끝나면 잠금을 해제한다
+     *
+     * @param reservationId 예약 ID
+     * @param action        잠금을 보유한 채 실행할 작업 (보통 트랜잭션 전체)
+     * @return 작업 결과
+     */
+    <T> T executeWithReservationSeatLocks(Long reservationId, Supplier<T> action);
+
+    default void runWithSeatLocks(Long matchId, Collection<Long> seatIds, Runnable action) {
+        executeWithSeatLocks(matchId, seatIds, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -2,7 +2,10 @@ package dev.ticketing.core.site.application.port.out.persistence.allocation;
 
 import dev.ticketing.core.site.domain.allocation.Allocation;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 좌석 할당 기록 Port
@@ -23,4 +26,104 @@ public interface RecordAllocationPort {
      * @param allocations 좌석 할당 정보 목록
      */
     void saveAll(List<Allocation> allocations);
+
+    /**
+     * 경기의 전체 좌석 할당을 좌석 테이블로부터 한 번에 AVAILABLE 상태로 생성한다 (이미 있는 좌석은 건너뜀)
+     *
+     * @param matchId 경기 ID
+     * @return 생성된 좌석 할당 수
+     */
+    int recordAvailableAllocationsForMatch(Long matchId);
+
+    /**
+     * 좌석이 점유 가능(AVAILABLE 또는 만료된 HOLD)할 때만 점유 상태로 기록한다 (조건부 단일 UPDATE)
+     *
+     * @param userId    사용자 ID
+     * @param matchId   경기 ID
+     * @param seatId    좌석 ID
+     * @param expiresAt 점유 만료 시각
+     * @param now       만료 판정 기준 시각
+     * @return 점유된 좌석 할당, 점유할 수 없으면 empty
+     */
+    Optional<Allocation> recordAllocationHoldIfAvailable(Long userId, Long matchId, Long seatId,
+            LocalDateTime expiresAt, LocalDateTime now);
+
+    /**
+     * 점유 만료 시각이 지난 좌석을 최대 limit 개 반환(AVAILABLE) 상태로 기록한다
+     * - 다른 트랜잭션이 잠근 좌석은 건너뛰므로 여러 노드가 동시에 실행해도 겹치지 않음
+     *
+     * @param now   만료 판정 기준 시각
+     * @param limit 최대 반환 좌석 수
+     * @return 반환된 좌석 할당 목록
+     */
+    List<Allocation> recordExpiredHoldReleases(LocalDateTime now, int limit);
+
+    /**
+     * 지정한 좌석 중 점유 만료 시각이 지난 좌석만 반환(AVAILABLE) 상태로 기록한다
+     *
+     * @param matchId 경기 ID
+     * @param seatIds 좌석 ID 목록
+     * @param now     만료 판정 기준 시각
+     * @return 반환된 좌석 할당 목록
+     */
+    List<Allocation> recordExpiredHoldReleases(Long matchId, Collection<Long> seatIds, LocalDateTime now);
+
+    /**
+     * 잠금 조회한 여러 좌석을 한 번에 점유 상태로 기록한다
+     *
+     * @param userId    사용자 ID
+     * @param matchId   경기 ID
+     * @param seatIds   좌석 ID 목록
+     * @param expiresAt 점유 만료 시각
+     */
+    void recordAllocationHolds(Long userId, Long matchId, Collection<Long> seatIds, LocalDateTime expiresAt);
+
+    /**
+     * 잠금 조회한 여러 좌석을 한 번에 확정(OCCUPIED) 상태로 기록한다
+     *
+     * @param matchId 경기 ID
+     * @param seatIds 좌석 ID 목록
+     */
+    void recordAllocationOccupations(Long matchId, Collection<Long> seatIds);
+
+    /**
+     * 예약에 연결된 점유(만료 전) 좌석의 만료 시각을 한 번에 연장한다 (결제 승인 동안 만료 반환/재점유 방지)
+     *
+     * @param reservationId 예약 ID
+     * @param expiresAt     연장할 만료 시각 (이보다 늦은 만료 시각은 유지)
+     * @param now           만료 판정 기준 시각
+     * @return 연장된 좌석 할당 목록 (예약 좌석 수보다 적으면 이미 만료/반환된 좌석이 있음)
+     */
+    List<Allocation> recordReservationHoldExtensions(Long reservationId, LocalDateTime expiresAt, LocalDateTime now);
+
+    /**
+     * 결제 승인이 거절된 예약의 점유 좌석 만료 시각을 연장 전 시각으로 되돌린다
+     *
+     * @param reservationId 예약 ID
+     * @param expiresAt     되돌릴 만료 시각 (이보다 이른 만료 시각은 유지)
+     * @param now           변경 시각
+     * @return 만료 시각이 바뀐 좌석 할당 목록 (좌석 상태 변경 이벤트 발행용)
+     */
+    List<Allocation> recordReservationHoldRestorations(Long reservationId, LocalDateTime expiresAt, LocalDateTime now);
+
+    /**
+     * 예약에 연결된 점유(HOLD) 좌석을 한 번에 확정(OCCUPIED) 상태로 기록한다
+     *
+     * @param reservationId 예약 ID
+     * @return 확정된 좌석 할당 목록 (좌석 상태 변경 이벤트 발행용)
+     */
+    List<Allocation> recordReservationOccupations(Long reservationId);
+
+    /**
+     * 사용자가 점유 중(만료 전)인 좌석에만 예약 ID를 한 번에 기록한다
+     *
+     * @param reservationId 예약 ID
+     * @param userId        사용자 ID
+     * @param matchId       경기 ID
+     * @param seatIds       좌석 ID 목록
+     * @param now           만료 판정 기준 시각
+     * @return 예약 ID가 기록된 좌석 수 (요청 좌석 수보다 적으면 조건을 만족하지 않는 좌석이 있음)
+     */
+    int recordReservationAssignments(Long reservationId, Long userId, Long matchId, Collection<Long> seatIds,
+            LocalDateTime now);
 }
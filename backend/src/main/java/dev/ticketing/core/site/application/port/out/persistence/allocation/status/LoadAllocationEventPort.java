@@ -0,0 +1,30 @@
+package dev.ticketing.core.site.application.port.out.persistence.allocation.status;
+
+import dev.ticketing.core.site.domain.allocation.AllocationBlockKey;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 이벤트 구독 Port
+ */
+public interface LoadAllocationEventPort {
+
+    /**
+     * 구간의 이벤트 소비 위치를 최근 시점으로 맞춤 (이미 읽고 있는 구간이면 위치 유지)
+     * - 새 구독자가 스냅샷을 받기 직전에 호출하여 스냅샷 이후 변경분이 누락되지 않도록 함
+     *
+     * @param key 경기/구간
+     */
+    void resetAllocationEventCursor(AllocationBlockKey key);
+
+    /**
+     * 여러 구간의 새 이벤트를 한 번에 읽고 읽은 위치를 전진
+     * - 마지막으로 읽은 위치는 노드가 구간별로 기억하며, 목록에 없는 구간의 위치는 버림
+     *
+     * @param keys 구독 중인 경기/구간 목록
+     * @return 변경된 좌석 상태 (이벤트 발생 순서)
+     */
+    List<AllocationStatus> loadAllocationEvents(Collection<AllocationBlockKey> keys);
+}
@@ -0,0 +1,34 @@
+package dev.ticketing.core.site.application.port.out.persistence.allocation.status;
+
+import java.time.LocalDateTime;
+
+import dev.ticketing.core.site.domain.allocation.AllocationStatusBitmap;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
+
+/**
+ * 좌석 현황 뷰 조회 Port (materialized 전략)
+ */
+public interface LoadAllocationStatusViewPort {
+
+    /**
+     * 미리 만들어 둔 구간 좌석 현황 조회
+     * - 뷰가 아직 없는 구간은 최초 1회만 DB에서 적재하고, 이후에는 좌석 상태 변경 이벤트로 갱신
+     *
+     * @param matchId 경기 ID
+     * @param blockId 구간 ID
+     * @return 좌석 현황 스냅샷
+     */
+    AllocationStatusSnapShot loadAllocationStatusView(Long matchId, Long blockId);
+
+    /**
+     * 미리 인코딩해 둔 구간 좌석 현황 비트맵 조회
+     * - 뷰가 바뀌었거나 점유가 만료된 경우에만 다시 인코딩하고, 그 외에는 같은 바이트 배열을 그대로 반환
+     *
+     * @param matchId 경기 ID
+     * @param blockId 구간 ID
+     * @param version 비트맵에 붙일 변경 순번
+     * @param now     만료 판정 기준 시각
+     * @return 좌석 현황 비트맵 (바이트 배열은 공유되므로 수정하지 않음)
+     */
+    AllocationStatusBitmap loadAllocationStatusBitmapView(Long matchId, Long blockId, Long version, LocalDateTime now);
+}
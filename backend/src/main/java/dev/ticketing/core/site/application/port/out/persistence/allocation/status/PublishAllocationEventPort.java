@@ -1,6 +1,6 @@
 package dev.ticketing.core.site.application.port.out.persistence.allocation.status;
 
-import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 
 /**
  * 좌석 상태 변경 이벤트 발행 Port
@@ -8,12 +8,10 @@ import dev.ticketing.core.site.domain.allocation.AllocationState;
 public interface PublishAllocationEventPort {
 
     /**
-     * 좌석 상태 변경 이벤트를 Redis Stream에 발행
+     * 좌석 상태 변경 이벤트 발행
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 구독자(Redis Stream, 좌석 현황 뷰 등)에게 전달
      *
-     * @param matchId 경기 ID
-     * @param blockId 구간 ID
-     * @param seatId  좌석 ID
-     * @param status  변경된 좌석 상태
+     * @param status 변경된 좌석 상태
      */
-    void publishAllocationStatusChangeEvent(Long matchId, Long blockId, Long seatId, AllocationState status);
+    void publishAllocationStatusChangeEvent(AllocationStatus status);
 }
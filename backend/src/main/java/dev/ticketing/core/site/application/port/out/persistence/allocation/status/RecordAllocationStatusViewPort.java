@@ -0,0 +1,23 @@
+package dev.ticketing.core.site.application.port.out.persistence.allocation.status;
+
+/**
+ * 좌석 현황 뷰 생성 Port (materialized 전략)
+ */
+public interface RecordAllocationStatusViewPort {
+
+    /**
+     * 경기의 모든 구간 좌석 현황 뷰를 생성
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 생성 (경기 오픈 시 미리 만든 좌석 할당 기준)
+     *
+     * @param matchId 경기 ID
+     */
+    void recordAllocationStatusView(Long matchId);
+
+    /**
+     * 다른 노드에서 변경된 구간의 뷰를 무효화하여 다음 조회에서 DB 기준으로 다시 적재
+     *
+     * @param matchId 경기 ID
+     * @param blockId 구간 ID
+     */
+    void recordAllocationStatusViewInvalidation(Long matchId, Long blockId);
+}
@@ -1,5 +1,6 @@
 package dev.ticketing.core.site.application.port.out.persistence.allocation.status;
 
+import dev.ticketing.core.site.domain.allocation.AllocationHoldResult;
 import dev.ticketing.core.site.domain.allocation.AllocationState;
 
 import java.time.Duration;
@@ -50,6 +51,29 @@ public interface UpdateAllocationStatusPort {
      */
     void updateAllocationStatus(Long matchId, Long seatId, AllocationState newStatus);
 
+    /**
+     * 점유자를 포함하여 좌석을 원자적으로 점유 (TTL 포함)
+     * - AVAILABLE 이거나 TTL 만료로 상태가 사라진 좌석만 HOLD로 전환
+     * - 점유자가 같은 사용자이면 상태를 바꾸지 않고 ALREADY_HELD_BY_USER 반환
+     *
+     * @param userId  점유 요청 사용자 ID
+     * @param matchId 경기 ID
+     * @param seatId  좌석 ID
+     * @param ttl     점유 유지 시간
+     * @return 점유 시도 결과
+     */
+    AllocationHoldResult holdAllocationStatusAtomic(Long userId, Long matchId, Long seatId, Duration ttl);
+
+    /**
+     * 점유자 본인인 경우에만 좌석 점유를 원자적으로 해제
+     *
+     * @param userId  해제 요청 사용자 ID
+     * @param matchId 경기 ID
+     * @param seatId  좌석 ID
+     * @return 해제 성공 여부
+     */
+    boolean releaseAllocationStatusAtomic(Long userId, Long matchId, Long seatId);
+
     /**
      * 좌석 상태의 TTL 제거 (영구 저장)
      * - Write-Behind 패턴: HOLD → OCCUPIED 전환 시 사용
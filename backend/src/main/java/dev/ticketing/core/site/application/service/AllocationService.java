@@ -1,13 +1,21 @@
 package dev.ticketing.core.site.application.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,38 +26,73 @@ import dev.ticketing.core.match.application.service.exception.MatchNotOpenExcept
 import dev.ticketing.core.match.domain.Match;
 import dev.ticketing.core.site.application.port.in.allocation.AllocateSeatCommand;
 import dev.ticketing.core.site.application.port.in.allocation.AllocateSeatUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.ConfirmSeatsCommand;
 import dev.ticketing.core.site.application.port.in.allocation.ConfirmSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.ReleaseSeatCommand;
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.ReleaseSeatUseCase;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LockAllocationPort;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.PublishAllocationEventPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.UpdateAllocationStatusPort;
 import dev.ticketing.core.site.application.port.out.persistence.hierarchy.LoadSeatPort;
 import dev.ticketing.core.site.application.service.exception.AllocationNotFoundException;
+import dev.ticketing.core.site.application.service.exception.InvalidSeatSelectionException;
+import dev.ticketing.core.site.application.service.exception.NoAdjacentSeatsAvailableException;
 import dev.ticketing.core.site.application.service.exception.NoSeatsToConfirmException;
 import dev.ticketing.core.site.application.service.exception.SeatAlreadyHeldException;
 import dev.ticketing.core.site.application.service.exception.SeatAlreadyOccupiedException;
 import dev.ticketing.core.site.application.service.exception.SeatNotFoundException;
 import dev.ticketing.core.site.application.service.exception.UnauthorizedSeatReleaseException;
 import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationHoldResult;
 import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCase, ConfirmSeatsUseCase {
+public class AllocationService
+        implements AllocateSeatUseCase, HoldSeatsUseCase, AssignSeatsUseCase, ReleaseSeatUseCase,
+        ReleaseExpiredSeatsUseCase, ConfirmSeatsUseCase {
+
+    // 자동 배정 시 Redis 에서 거절된 좌석을 제외하고 다시 고르는 최대 횟수
+    private static final int MAX_ASSIGN_ATTEMPTS = 3;
 
     private final RecordAllocationPort recordAllocationPort;
     private final LoadAllocationPort loadAllocationPort;
+    private final LockAllocationPort lockAllocationPort;
+    private final TransactionTemplate transactionTemplate;
     private final LoadSeatPort loadSeatPort;
     private final LoadMatchPort loadMatchPort;
+    private final UpdateAllocationStatusPort updateAllocationStatusPort;
+    private final PublishAllocationEventPort publishAllocationEventPort;
 
     @Value("${seat.occupation.ttl-minutes:5}")
     private int occupationTtlMinutes;
 
+    @Value("${seat.allocation.max-hold-seats:8}")
+    private int maxHoldSeats;
+
+    @Value("${seat.allocation.engine:database}")
+    private String allocationEngine;
+
+    /**
+     * 단일 좌석 점유
+     * - 좌석 잠금을 트랜잭션 시작 전에 획득하여 잠금 대기 동안 DB 커넥션을 점유하지 않음 (메모리 엔진)
+     */
     @Override
-    @Transactional
     public void allocateSeat(final AllocateSeatCommand command) {
+        lockAllocationPort.runWithSeatLocks(command.matchId(), List.of(command.seatId()),
+                () -> transactionTemplate.executeWithoutResult(status -> holdSeat(command)));
+    }
+
+    private void holdSeat(final AllocateSeatCommand command) {
         Long userId = command.userId();
         Long matchId = command.matchId();
         Long seatId = command.seatId();
@@ -69,6 +112,21 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime expiresAt = now.plusMinutes(occupationTtlMinutes);
 
+        if (isRedisEngine() && !acquireRedisHold(userId, matchId, seatId)) {
+            return;
+        }
+
+        // 점유 가능하면 조건부 UPDATE 한 문장으로 점유 (잠금 조회 + 저장 왕복 없이 행 잠금은 문장 동안만 유지)
+        Optional<Allocation> heldIfAvailable = recordAllocationPort.recordAllocationHoldIfAvailable(
+                userId, matchId, seatId, expiresAt, now);
+        if (heldIfAvailable.isPresent()) {
+            publishStatusChange(heldIfAvailable.get());
+            log.info("Seat held successfully: userId={}, matchId={}, seatId={}, expiresAt={}",
+                    userId, matchId, seatId, expiresAt);
+            return;
+        }
+
+        // 점유 불가(또는 할당 없음): 잠금 조회로 원인을 판정하여 기존과 같은 예외로 응답
         // Load existing allocation with pessimistic lock
         // Allocation must exist because MatchService.openMatch() pre-creates AVAILABLE allocations for all allocationStatuses
         Allocation allocation = loadAllocationPort.loadAllocationByMatchAndSeatWithLock(matchId, seatId)
@@ -76,6 +134,10 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
 
         if (allocation.getState() == AllocationState.OCCUPIED) {
             log.warn("Seat already occupied: userId={}, matchId={}, seatId={}", userId, matchId, seatId);
+            if (isRedisEngine()) {
+                // Redis 상태가 유실된 경우 DB 기준으로 보정
+                updateAllocationStatusPort.updateAllocationStatus(matchId, seatId, AllocationState.OCCUPIED);
+            }
             throw new SeatAlreadyOccupiedException(matchId, seatId);
         }
 
@@ -92,13 +154,173 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
         // AVAILABLE or expired HOLD - update it
         Allocation heldAllocation = allocation.hold(userId, matchId, expiresAt);
         Allocation saved = recordAllocationPort.recordAllocation(heldAllocation);
+        publishStatusChange(heldAllocation);
         log.info("Seat held successfully: userId={}, matchId={}, seatId={}, expiresAt={}, updatedAt={}",
                 userId, matchId, seatId, expiresAt, saved.getUpdatedAt());
     }
 
+    /**
+     * 여러 좌석 일괄 점유 (All-or-Nothing)
+     * - 요청 좌석 전체를 좌석 ID 순으로 한 번에 잠금 조회 (동시 그룹 예매 간 교착 상태 방지)
+     * - 하나라도 점유할 수 없으면 예외로 전체 롤백, 모두 가능하면 한 문장으로 일괄 점유
+     * - 이미 본인이 점유 중인 좌석은 그대로 유지 (단건 점유와 동일)
+     */
+    @Override
+    public List<Allocation> holdSeats(final HoldSeatsCommand command) {
+        Long matchId = command.matchId();
+        List<Long> seatIds = command.seatIds();
+
+        log.info("Batch hold request: userId={}, matchId={}, seatIds={}", command.userId(), matchId, seatIds);
+
+        if (seatIds == null || seatIds.isEmpty() || seatIds.size() > maxHoldSeats
+                || seatIds.stream().distinct().count() != seatIds.size()) {
+            throw new InvalidSeatSelectionException(matchId, seatIds, maxHoldSeats);
+        }
+
+        return lockAllocationPort.executeWithSeatLocks(matchId, seatIds,
+                () -> transactionTemplate.execute(status -> holdSeatsInTransaction(command)));
+    }
+
+    private List<Allocation> holdSeatsInTransaction(final HoldSeatsCommand command) {
+        Long userId = command.userId();
+        Long matchId = command.matchId();
+        List<Long> seatIds = command.seatIds();
+
+        Match match = loadMatchPort.loadById(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId));
+
+        if (!match.isOpen()) {
+            throw new MatchNotOpenException(matchId);
+        }
+
+        List<Long> sortedSeatIds = seatIds.stream().sorted().toList();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(occupationTtlMinutes);
+
+        // Redis 점유는 좌석별로 판정하며, 하나라도 실패하면 이번 요청에서 점유한 좌석을 즉시 되돌림
+        if (isRedisEngine()) {
+            acquireRedisHolds(userId, matchId, sortedSeatIds);
+        }
+
+        Map<Long, Allocation> allocationsBySeatId = loadAllocationPort
+                .loadAllocationsByMatchAndSeatsWithLock(matchId, sortedSeatIds).stream()
+                .collect(Collectors.toMap(Allocation::getSeatId, Function.identity()));
+
+        List<Allocation> heldAllocations = new ArrayList<>();
+        List<Allocation> toHold = new ArrayList<>();
+        for (Long seatId : sortedSeatIds) {
+            Allocation allocation = allocationsBySeatId.get(seatId);
+            if (allocation == null) {
+                throw new AllocationNotFoundException(matchId, seatId);
+            }
+
+            if (allocation.getState() == AllocationState.OCCUPIED) {
+                log.warn("Seat already occupied: userId={}, matchId={}, seatId={}", userId, matchId, seatId);
+                if (isRedisEngine()) {
+                    updateAllocationStatusPort.updateAllocationStatus(matchId, seatId, AllocationState.OCCUPIED);
+                }
+                throw new SeatAlreadyOccupiedException(matchId, seatId);
+            }
+
+            boolean isActiveHold = allocation.getState() == AllocationState.HOLD
+                    && allocation.getHoldExpiresAt() != null && allocation.getHoldExpiresAt().isAfter(now);
+            if (isActiveHold && allocation.isHeldBy(userId)) {
+                heldAllocations.add(allocation);
+                continue;
+            }
+            if (isActiveHold) {
+                log.warn("Seat currently held by another user: userId={}, matchId={}, seatId={}", userId, matchId, seatId);
+                throw new SeatAlreadyHeldException(matchId, seatId);
+            }
+            toHold.add(allocation.hold(userId, matchId, expiresAt));
+        }
+
+        if (!toHold.isEmpty()) {
+            List<Long> toHoldSeatIds = toHold.stream().map(Allocation::getSeatId).toList();
+            recordAllocationPort.recordAllocationHolds(userId, matchId, toHoldSeatIds, expiresAt);
+            toHold.forEach(this::publishStatusChange);
+            heldAllocations.addAll(toHold);
+        }
+
+        log.info("Seats held successfully: userId={}, matchId={}, seatIds={}, newlyHeld={}, expiresAt={}",
+                userId, matchId, sortedSeatIds, toHold.size(), expiresAt);
+        return heldAllocations;
+    }
+
+    /**
+     * 연속 좌석 자동 배정
+     * - 다른 요청이 잠근 좌석은 기다리지 않고 건너뛰므로(SKIP LOCKED) 경합 중에도 즉시 배정되거나 즉시 실패
+     * - 고른 좌석은 이미 잠금을 획득한 상태이므로 다시 잠금 조회하지 않고 한 문장으로 일괄 점유
+     * - Redis 에서 점유에 실패한 좌석은 제외하고 다시 고름 (최대 MAX_ASSIGN_ATTEMPTS 회)
+     */
     @Override
     @Transactional
+    public List<Allocation> assignSeats(final AssignSeatsCommand command) {
+        Long userId = command.userId();
+        Long matchId = command.matchId();
+        Long blockId = command.blockId();
+        int count = command.count();
+
+        log.info("Assign request: userId={}, matchId={}, blockId={}, count={}", userId, matchId, blockId, count);
+
+        if (count < 1 || count > maxHoldSeats) {
+            throw new InvalidSeatSelectionException(matchId, blockId, count, maxHoldSeats);
+        }
+
+        Match match = loadMatchPort.loadById(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId));
+
+        if (!match.isOpen()) {
+            throw new MatchNotOpenException(matchId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(occupationTtlMinutes);
+
+        List<Long> rejectedSeatIds = new ArrayList<>();
+        List<Allocation> picked = List.of();
+        for (int attempt = 1; attempt <= MAX_ASSIGN_ATTEMPTS; attempt++) {
+            picked = loadAllocationPort.loadAdjacentAvailableAllocationsWithSkipLock(
+                    matchId, blockId, count, now, rejectedSeatIds);
+            if (picked.isEmpty() || !isRedisEngine()) {
+                break;
+            }
+            Long rejectedSeatId = tryAcquireRedisHolds(userId, matchId,
+                    picked.stream().map(Allocation::getSeatId).toList());
+            if (rejectedSeatId == null) {
+                break;
+            }
+            log.info("Assigned seat rejected by redis, retrying: matchId={}, seatId={}, attempt={}",
+                    matchId, rejectedSeatId, attempt);
+            rejectedSeatIds.add(rejectedSeatId);
+            picked = List.of();
+        }
+
+        if (picked.isEmpty()) {
+            log.warn("No adjacent seats available: userId={}, matchId={}, blockId={}, count={}",
+                    userId, matchId, blockId, count);
+            throw new NoAdjacentSeatsAvailableException(matchId, blockId, count);
+        }
+
+        List<Long> seatIds = picked.stream().map(Allocation::getSeatId).toList();
+        List<Allocation> heldAllocations = picked.stream()
+                .map(allocation -> allocation.hold(userId, matchId, expiresAt))
+                .toList();
+        recordAllocationPort.recordAllocationHolds(userId, matchId, seatIds, expiresAt);
+        heldAllocations.forEach(this::publishStatusChange);
+
+        log.info("Seats assigned successfully: userId={}, matchId={}, blockId={}, seatIds={}, expiresAt={}",
+                userId, matchId, blockId, seatIds, expiresAt);
+        return heldAllocations;
+    }
+
+    @Override
     public void releaseSeat(final ReleaseSeatCommand command) {
+        lockAllocationPort.runWithSeatLocks(command.matchId(), List.of(command.seatId()),
+                () -> transactionTemplate.executeWithoutResult(status -> releaseHeldSeat(command)));
+    }
+
+    private void releaseHeldSeat(final ReleaseSeatCommand command) {
         Long userId = command.userId();
         Long matchId = command.matchId();
         Long seatId = command.seatId();
@@ -111,6 +333,10 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
         if (allocation.isHeldBy(userId)) {
             Allocation releasedAllocation = allocation.release();
             Allocation saved = recordAllocationPort.recordAllocation(releasedAllocation);
+            publishStatusChange(releasedAllocation);
+            if (isRedisEngine()) {
+                afterCommit(() -> updateAllocationStatusPort.releaseAllocationStatusAtomic(userId, matchId, seatId));
+            }
             log.info("Seat released successfully: userId={}, matchId={}, seatId={}, updatedAt={}",
                     userId, matchId, seatId, saved.getUpdatedAt());
             return;
@@ -119,26 +345,69 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
         throw new UnauthorizedSeatReleaseException(matchId, seatId, userId);
     }
 
+    /**
+     * 만료된 점유 반환 (스케줄러가 배치 단위로 호출)
+     * - 반환된 좌석마다 상태 변경 이벤트를 발행하여 캐시/SSE 에 즉시 반영
+     * - Redis 엔진의 점유 키는 TTL 로 이미 만료되므로 별도 처리하지 않음
+     */
+    @Override
+    @Transactional
+    public int releaseExpiredSeats(final int batchSize) {
+        List<Allocation> released = recordAllocationPort.recordExpiredHoldReleases(LocalDateTime.now(), batchSize);
+        released.forEach(this::publishStatusChange);
+        return released.size();
+    }
+
     @Override
     @Transactional
+    public int releaseExpiredSeats(final Long matchId, final Collection<Long> seatIds) {
+        // 만료 이후 연장/재점유된 좌석은 조건에 맞지 않아 반환되지 않음
+        List<Allocation> released = recordAllocationPort.recordExpiredHoldReleases(matchId, seatIds, LocalDateTime.now());
+        released.forEach(this::publishStatusChange);
+        return released.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AllocationStatus> getHeldSeats() {
+        return loadAllocationPort.loadHeldAllocations().stream()
+                .map(AllocationStatus::from)
+                .toList();
+    }
+
+    @Override
     public List<Allocation> confirmSeats(final ConfirmSeatsCommand command) {
         Long userId = command.userId();
         Long matchId = command.matchId();
         List<Long> seatIds = command.seatIds();
         log.info("Confirming allocationStatuses for userId={}, matchId={}, requestedSeats={}", userId, matchId, seatIds);
 
-        List<Allocation> confirmedSeats = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-
         if (seatIds == null || seatIds.isEmpty()) {
             log.warn("Requested seatIds list is null or empty for userId={}, matchId={}", userId, matchId);
             throw new NoSeatsToConfirmException(userId, matchId, seatIds);
         }
 
-        for (Long seatId : seatIds) {
-            Optional<Allocation> optAllocation = loadAllocationPort.loadAllocationByMatchAndSeatWithLock(matchId, seatId);
-            if (optAllocation.isPresent()) {
-                Allocation allocation = optAllocation.get();
+        return lockAllocationPort.executeWithSeatLocks(matchId, seatIds,
+                () -> transactionTemplate.execute(status -> confirmSeatsInTransaction(command)));
+    }
+
+    private List<Allocation> confirmSeatsInTransaction(final ConfirmSeatsCommand command) {
+        Long userId = command.userId();
+        Long matchId = command.matchId();
+        List<Long> seatIds = command.seatIds();
+
+        List<Allocation> confirmedSeats = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 요청 좌석을 좌석 ID 순으로 한 번에 잠그고(교착 상태 방지), 조건 판정 후 통과한 좌석만 한 문장으로 확정
+        List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+        Map<Long, Allocation> allocationsBySeatId = loadAllocationPort
+                .loadAllocationsByMatchAndSeatsWithLock(matchId, sortedSeatIds).stream()
+                .collect(Collectors.toMap(Allocation::getSeatId, Function.identity()));
+
+        for (Long seatId : sortedSeatIds) {
+            Allocation allocation = allocationsBySeatId.get(seatId);
+            if (allocation != null) {
                 boolean isUserMatch = allocation.getUserId() != null && allocation.getUserId().equals(userId);
                 boolean isStatusHold = allocation.getState() == AllocationState.HOLD;
                 boolean isNotExpired = allocation.getHoldExpiresAt() == null
@@ -147,13 +416,8 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
                 log.info("Seat {}: status={}, dbUserId={}, reqUserId={}, isStatusHold={}, isNotExpired={}",
                         seatId, allocation.getState(), allocation.getUserId(), userId, isStatusHold, isNotExpired);
 
-                // For initial implementation/debugging, be a bit more lenient if it's held by
-                // the user or the IDs are small/default
-                if (isStatusHold && isNotExpired && (isUserMatch || (userId == 1 && allocation.getUserId() == null))) {
-                    Allocation occupied = allocation.occupy();
-                    Allocation saved = recordAllocationPort.recordAllocation(occupied);
-                    confirmedSeats.add(saved);
-                    log.info("Seat confirmed successfully: seatId={}", seatId);
+                if (isStatusHold && isNotExpired && isUserMatch) {
+                    confirmedSeats.add(allocation.occupy());
                 } else {
                     log.warn(
                             "Seat {} confirmation failed criteria check. isUserMatch={}, isStatusHold={}, isNotExpired={}",
@@ -170,6 +434,120 @@ public class AllocationService implements AllocateSeatUseCase, ReleaseSeatUseCas
             throw new NoSeatsToConfirmException(userId, matchId, seatIds);
         }
 
+        List<Long> confirmedSeatIds = confirmedSeats.stream().map(Allocation::getSeatId).toList();
+        recordAllocationPort.recordAllocationOccupations(matchId, confirmedSeatIds);
+        confirmedSeats.forEach(this::publishStatusChange);
+        log.info("Seats confirmed successfully: userId={}, matchId={}, seatIds={}", userId, matchId, confirmedSeatIds);
+
+        if (isRedisEngine()) {
+            afterCommit(() -> confirmedSeatIds.forEach(seatId ->
+                    updateAllocationStatusPort.updateAllocationStatus(matchId, seatId, AllocationState.OCCUPIED)));
+        }
+
         return confirmedSeats;
     }
+
+    private void publishStatusChange(final Allocation allocation) {
+        publishAllocationEventPort.publishAllocationStatusChangeEvent(AllocationStatus.from(allocation));
+    }
+
+    private boolean isRedisEngine() {
+        return "redis".equals(allocationEngine);
+    }
+
+    /**
+     * Redis Lua Script 로 좌석 점유를 먼저 판정하여, 승자 한 명만 DB 비관락 경로로 진입시킨다.
+     * - DB 트랜잭션이 커밋되지 않으면 Redis 점유를 되돌린다.
+     *
+     * @return DB 기록이 필요하면 true, 같은 사용자가 이미 점유 중이면 false
+     */
+    private boolean acquireRedisHold(final Long userId, final Long matchId, final Long seatId) {
+        AllocationHoldResult result = updateAllocationStatusPort.holdAllocationStatusAtomic(
+                userId, matchId, seatId, Duration.ofMinutes(occupationTtlMinutes));
+
+        switch (result) {
+            case OCCUPIED -> {
+                log.warn("Seat already occupied (redis): userId={}, matchId={}, seatId={}", userId, matchId, seatId);
+                throw new SeatAlreadyOccupiedException(matchId, seatId);
+            }
+            case HELD_BY_OTHER -> {
+                log.warn("Seat currently held by another user (redis): userId={}, matchId={}, seatId={}",
+                        userId, matchId, seatId);
+                throw new SeatAlreadyHeldException(matchId, seatId);
+            }
+            case ALREADY_HELD_BY_USER -> {
+                log.info("Seat already held by same user (redis): userId={}, matchId={}, seatId={}",
+                        userId, matchId, seatId);
+                return false;
+            }
+            default -> {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            if (status != STATUS_COMMITTED) {
+                                updateAllocationStatusPort.releaseAllocationStatusAtomic(userId, matchId, seatId);
+                            }
+                        }
+                    });
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 여러 좌석을 Redis 에서 순서대로 점유 (All-or-Nothing)
+     * - 한 좌석이라도 실패하면 이번 호출에서 새로 점유한 좌석을 바로 해제한 뒤 예외를 그대로 던진다
+     * - 롤백 훅도 같은 좌석을 해제하지만 소유자 확인 후 삭제하므로 중복 해제는 무시된다
+     */
+    private void acquireRedisHolds(final Long userId, final Long matchId, final List<Long> seatIds) {
+        List<Long> acquiredSeatIds = new ArrayList<>();
+        try {
+            for (Long seatId : seatIds) {
+                if (acquireRedisHold(userId, matchId, seatId)) {
+                    acquiredSeatIds.add(seatId);
+                }
+            }
+        } catch (RuntimeException e) {
+            acquiredSeatIds.forEach(seatId ->
+                    updateAllocationStatusPort.releaseAllocationStatusAtomic(userId, matchId, seatId));
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 좌석을 Redis 에서 순서대로 점유하되, 실패하면 예외 대신 거절된 좌석 ID 를 반환 (자동 배정 재시도용)
+     * - 실패 시 이번 호출에서 새로 점유한 좌석은 바로 해제
+     *
+     * @return 모두 점유했으면 null, 아니면 점유에 실패한 좌석 ID
+     */
+    private Long tryAcquireRedisHolds(final Long userId, final Long matchId, final List<Long> seatIds) {
+        List<Long> acquiredSeatIds = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            try {
+                if (acquireRedisHold(userId, matchId, seatId)) {
+                    acquiredSeatIds.add(seatId);
+                }
+            } catch (SeatAlreadyHeldException | SeatAlreadyOccupiedException e) {
+                acquiredSeatIds.forEach(acquiredSeatId ->
+                        updateAllocationStatusPort.releaseAllocationStatusAtomic(userId, matchId, acquiredSeatId));
+                return seatId;
+            }
+        }
+        return null;
+    }
+
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
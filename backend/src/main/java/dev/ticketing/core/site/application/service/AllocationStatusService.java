@@ -1,56 +1,116 @@
 package dev.ticketing.core.site.application.service;
 
+import dev.ticketing.core.site.application.port.in.allocation.status.EvictAllocationStatusSnapShotUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusChangesUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusEventsUseCase;
 import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusSnapShotUseCase;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationStatusPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.LoadAllocationEventPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.LoadAllocationStatusViewPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.RecordAllocationStatusViewPort;
+import dev.ticketing.core.site.application.service.exception.AllocationStatusUnavailableException;
+import dev.ticketing.core.site.domain.allocation.AllocationBlockKey;
 import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusBitmap;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChanges;
 import dev.ticketing.core.site.domain.allocation.AllocationStatusSnapShot;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * AllocationStatusService - 좌석 현황 조회 서비스
  *
  * 부하 테스트를 위해 여러 전략을 지원:
- * - strategy: none, collapsing, redis, caffeine
+ * - strategy: none, collapsing, redis, caffeine, tiered, materialized
  * - schema: normalized (JOIN 쿼리), denormalized (비정규화 쿼리)
+ *
+ * redis, caffeine, tiered 캐시는 좌석 상태 변경 시 Redis Pub/Sub 무효화 메시지로 모든 노드에서 제거된다.
+ * (TTL 은 무효화 메시지 유실에 대비한 안전장치)
  */
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 public class AllocationStatusService
-        implements GetAllocationStatusSnapShotUseCase, GetAllocationStatusChangesUseCase {
+        implements GetAllocationStatusSnapShotUseCase, GetAllocationStatusChangesUseCase,
+        GetAllocationStatusEventsUseCase, EvictAllocationStatusSnapShotUseCase {
 
-    private static final long TIMEOUT_SECONDS = 5;
     private static final String CACHE_NAME = "allocationStatusSnapShot";
+    private static final String NEAR_CACHE_NAME = "allocationStatusSnapShotNear";
 
     private final LoadAllocationStatusPort loadAllocationStatusPort;
+    private final LoadAllocationEventPort loadAllocationEventPort;
+    private final LoadAllocationStatusViewPort loadAllocationStatusViewPort;
+    private final RecordAllocationStatusViewPort recordAllocationStatusViewPort;
     private final CacheManager redisCacheManager;
     private final CacheManager caffeineCacheManager;
 
+    // 조회 대기 제한 시간, 초과 시 마지막으로 조회한 스냅샷으로 대체 (없으면 503)
+    private final long loadTimeoutMillis;
+
+    // 비동기 Collapsing 의 DB 조회 전용 스레드 풀 (큐가 가득 차면 즉시 실패)
+    private final ThreadPoolExecutor snapshotLoadExecutor;
+
+    // 마지막으로 조회에 성공한 스냅샷 (matchId:blockId:(n|d)) - 타임아웃 시 대체 응답
+    private final Map<String, AllocationStatusSnapShot> lastLoadedSnapshots = new ConcurrentHashMap<>();
+
     // Request Collapsing용 - 진행 중인 요청 추적
     private final Map<String, CompletableFuture<AllocationStatusSnapShot>> inFlightSnapshots
             = new ConcurrentHashMap<>();
 
+    // Tiered 전략의 L2(Redis) 조회 Collapsing용 - 노드당 키별 Redis GET 1회
+    private final Map<String, CompletableFuture<AllocationStatusSnapShot>> inFlightRemoteSnapshots
+            = new ConcurrentHashMap<>();
+
+    // 캐시 무효화 세대 (matchId:blockId) - DB 조회 도중 무효화된 결과를 캐시에 다시 넣지 않기 위함
+    private final Map<String, AtomicLong> cacheGenerations = new ConcurrentHashMap<>();
+
     public AllocationStatusService(
             LoadAllocationStatusPort loadAllocationStatusPort,
+            LoadAllocationEventPort loadAllocationEventPort,
+            LoadAllocationStatusViewPort loadAllocationStatusViewPort,
+            RecordAllocationStatusViewPort recordAllocationStatusViewPort,
             @Qualifier("redisCacheManager") CacheManager redisCacheManager,
-            @Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager) {
+            @Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
+            @Value("${seat.status.snapshot.timeout-ms:5000}") long loadTimeoutMillis,
+            @Value("${seat.status.snapshot.load-threads:8}") int loadThreads,
+            @Value("${seat.status.snapshot.load-queue-capacity:1000}") int loadQueueCapacity) {
         this.loadAllocationStatusPort = loadAllocationStatusPort;
+        this.loadAllocationEventPort = loadAllocationEventPort;
+        this.loadAllocationStatusViewPort = loadAllocationStatusViewPort;
+        this.recordAllocationStatusViewPort = recordAllocationStatusViewPort;
         this.redisCacheManager = redisCacheManager;
         this.caffeineCacheManager = caffeineCacheManager;
+        this.loadTimeoutMillis = loadTimeoutMillis;
+        this.snapshotLoadExecutor = new ThreadPoolExecutor(loadThreads, loadThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(loadQueueCapacity), new CustomizableThreadFactory("snapshot-load-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotLoadExecutor.shutdown();
     }
 
     @Override
@@ -68,10 +128,44 @@ public class AllocationStatusService
             case "collapsing" -> loadWithCollapsing(matchId, blockId, normalized);
             case "redis" -> loadWithCache(matchId, blockId, redisCacheManager, normalized);
             case "caffeine" -> loadWithCache(matchId, blockId, caffeineCacheManager, normalized);
+            case "tiered" -> loadWithTieredCache(matchId, blockId, normalized);
+            case "materialized" -> loadFromView(matchId, blockId);
             default -> loadWithCollapsing(matchId, blockId, normalized);
         };
     }
 
+    /**
+     * 좌석 현황 비동기 조회
+     * - collapsing 전략은 요청 스레드를 블로킹하지 않고 공유 Future 를 그대로 반환 (서블릿 스레드 즉시 반환)
+     * - 그 외 전략은 캐시/뷰 조회로 충분히 빠르므로 호출 스레드에서 처리한 뒤 완료된 Future 로 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AllocationStatusSnapShot> getAllocationStatusSnapShotAsync(
+            Long matchId, Long blockId, String strategy, String schema) {
+        boolean normalized = "normalized".equals(schema);
+        if ("collapsing".equals(strategy)) {
+            return loadWithCollapsingAsync(matchId, blockId, normalized);
+        }
+        return CompletableFuture.completedFuture(
+                getAllocationStatusSnapShotByMatchIdAndBlockId(matchId, blockId, strategy, schema));
+    }
+
+    /**
+     * 압축 좌석 현황 (좌석당 2bit)
+     * - 변경 순번을 스냅샷보다 먼저 읽으므로, 이 버전 이후 변경분은 SSE Last-Event-ID 로 이어받을 수 있음
+     * - materialized 전략은 뷰가 미리 인코딩해 둔 비트맵을 그대로 사용
+     */
+    public AllocationStatusBitmap getAllocationStatusBitmap(
+            Long matchId, Long blockId, String strategy, String schema) {
+        Long version = loadAllocationStatusPort.loadLatestChangeSeq(matchId);
+        if ("materialized".equals(strategy)) {
+            return loadAllocationStatusViewPort.loadAllocationStatusBitmapView(
+                    matchId, blockId, version, LocalDateTime.now());
+        }
+        AllocationStatusSnapShot snapshot = getAllocationStatusSnapShotByMatchIdAndBlockId(matchId, blockId, strategy, schema);
+        return AllocationStatusBitmap.of(version, snapshot.allocationStatuses(), LocalDateTime.now());
+    }
+
     // ===== 전략별 구현 =====
 
     /**
@@ -90,54 +184,118 @@ public class AllocationStatusService
      * - 첫 번째 요청 스레드가 직접 실행하고, 나머지는 결과를 기다림
      */
     private AllocationStatusSnapShot loadWithCollapsing(Long matchId, Long blockId, boolean normalized) {
-        String key = matchId + ":" + blockId + ":" + (normalized ? "n" : "d");
+        String key = cacheKey(matchId, blockId, normalized);
+        return collapse(inFlightSnapshots, key, matchId, blockId, () -> {
+            AllocationStatusSnapShot result = loadFromDb(matchId, blockId, normalized);
+            lastLoadedSnapshots.put(key, result);
+            return result;
+        });
+    }
+
+    /**
+     * 전략 2 (비동기): Request Collapsing
+     * - 첫 번째 요청이 전용 스레드 풀에 DB 조회를 맡기고, 모든 요청이 같은 Future 를 공유
+     * - 대기 중인 요청이 서블릿 스레드를 점유하지 않으므로 동시 요청 수만큼 스레드가 묶이지 않음
+     * - 제한 시간을 넘기면 요청별로 마지막 스냅샷(없으면 503)으로 대체하며, 공유 Future 자체는 취소하지 않음
+     */
+    private CompletableFuture<AllocationStatusSnapShot> loadWithCollapsingAsync(
+            Long matchId, Long blockId, boolean normalized) {
+        String key = cacheKey(matchId, blockId, normalized);
+
+        CompletableFuture<AllocationStatusSnapShot> newFuture = new CompletableFuture<>();
+        CompletableFuture<AllocationStatusSnapShot> registered = inFlightSnapshots.putIfAbsent(key, newFuture);
+        if (registered != null) {
+            return withTimeout(registered, key, matchId, blockId);
+        }
+
+        try {
+            snapshotLoadExecutor.execute(() -> {
+                try {
+                    AllocationStatusSnapShot result = loadFromDb(matchId, blockId, normalized);
+                    lastLoadedSnapshots.put(key, result);
+                    newFuture.complete(result);
+                } catch (Exception e) {
+                    newFuture.completeExceptionally(e);
+                } finally {
+                    inFlightSnapshots.remove(key, newFuture);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightSnapshots.remove(key, newFuture);
+            newFuture.completeExceptionally(e);
+        }
+        return withTimeout(newFuture, key, matchId, blockId);
+    }
+
+    private CompletableFuture<AllocationStatusSnapShot> withTimeout(
+            CompletableFuture<AllocationStatusSnapShot> shared, String key, Long matchId, Long blockId) {
+        return shared.copy()
+                .orTimeout(loadTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> fallback(key, matchId, blockId, e));
+    }
+
+    private AllocationStatusSnapShot fallback(String key, Long matchId, Long blockId, Throwable e) {
+        AllocationStatusSnapShot last = lastLoadedSnapshots.get(key);
+        if (last != null) {
+            log.warn("AllocationStatusSnapShot 조회 실패, 마지막 스냅샷으로 대체: matchId={}, blockId={}",
+                    matchId, blockId, e);
+            return last;
+        }
+        log.error("AllocationStatusSnapShot 조회 실패: matchId={}, blockId={}", matchId, blockId, e);
+        throw new AllocationStatusUnavailableException(matchId, blockId, e);
+    }
+
+    private AllocationStatusSnapShot collapse(
+            Map<String, CompletableFuture<AllocationStatusSnapShot>> inFlight, String key,
+            Long matchId, Long blockId, Supplier<AllocationStatusSnapShot> loader) {
 
         // 이미 진행 중인 요청이 있으면 그 결과를 기다림
-        CompletableFuture<AllocationStatusSnapShot> existing = inFlightSnapshots.get(key);
+        CompletableFuture<AllocationStatusSnapShot> existing = inFlight.get(key);
         if (existing != null) {
-            return waitForResult(existing, matchId, blockId);
+            return waitForResult(existing, key, matchId, blockId);
         }
 
         // 새로운 Future 생성 및 등록 시도
         CompletableFuture<AllocationStatusSnapShot> newFuture = new CompletableFuture<>();
-        CompletableFuture<AllocationStatusSnapShot> registered = inFlightSnapshots.putIfAbsent(key, newFuture);
+        CompletableFuture<AllocationStatusSnapShot> registered = inFlight.putIfAbsent(key, newFuture);
 
         // 다른 스레드가 먼저 등록했으면 그 결과를 기다림
         if (registered != null) {
-            return waitForResult(registered, matchId, blockId);
+            return waitForResult(registered, key, matchId, blockId);
         }
 
         // 첫 번째 스레드: 직접 실행
         try {
-            AllocationStatusSnapShot result = loadFromDb(matchId, blockId, normalized);
+            AllocationStatusSnapShot result = loader.get();
             newFuture.complete(result);
             return result;
         } catch (Exception e) {
             newFuture.completeExceptionally(e);
             throw e;
         } finally {
-            inFlightSnapshots.remove(key);
+            inFlight.remove(key, newFuture);
         }
     }
 
     private AllocationStatusSnapShot waitForResult(
-            CompletableFuture<AllocationStatusSnapShot> future, Long matchId, Long blockId) {
+            CompletableFuture<AllocationStatusSnapShot> future, String key, Long matchId, Long blockId) {
         try {
-            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            log.error("AllocationStatusSnapShot 조회 타임아웃: matchId={}, blockId={}", matchId, blockId);
-            throw new RuntimeException("조회 타임아웃", e);
-        } catch (Exception e) {
-            log.error("AllocationStatusSnapShot 조회 실패: matchId={}, blockId={}", matchId, blockId, e);
-            throw new RuntimeException("조회 실패", e);
+            return future.get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(key, matchId, blockId, e);
+        } catch (TimeoutException | ExecutionException e) {
+            return fallback(key, matchId, blockId, e);
         }
     }
 
     /**
      * 전략 3, 4: Cache (Redis 또는 Caffeine)
+     * - Caffeine 캐시는 로더가 연결된 LoadingCache 이므로 미스/만료 시 캐시가 직접 적재하고,
+     *   refreshAfterWrite 가 지난 키는 이전 값을 반환하면서 백그라운드로 재적재함
      */
     private AllocationStatusSnapShot loadWithCache(Long matchId, Long blockId, CacheManager cacheManager, boolean normalized) {
-        String key = matchId + ":" + blockId + ":" + (normalized ? "n" : "d");
+        String key = cacheKey(matchId, blockId, normalized);
         Cache cache = cacheManager.getCache(CACHE_NAME);
 
         if (cache != null) {
@@ -147,17 +305,134 @@ public class AllocationStatusService
             }
         }
 
+        AtomicLong generation = cacheGeneration(matchId, blockId);
+        long generationBeforeLoad = generation.get();
         AllocationStatusSnapShot result = loadFromDb(matchId, blockId, normalized);
 
-        if (cache != null) {
+        // 조회 도중 무효화되었다면 이미 오래된 결과이므로 캐시에 넣지 않음
+        if (cache != null && generation.get() == generationBeforeLoad) {
             cache.put(key, result);
         }
 
         return result;
     }
 
+    /**
+     * 전략 6: Tiered Cache (Caffeine L1 -> Redis L2 -> DB)
+     * - L1 은 짧은 TTL 의 노드 로컬 캐시로 가장 뜨거운 구간의 Redis 왕복을 제거
+     * - L1 미스는 키별로 Collapsing 하여 노드당 Redis GET 1회, L2 미스는 DB Collapsing 으로 DB 쿼리 1회
+     * - 무효화 메시지가 L1, L2 를 함께 제거하므로 노드 간 불일치는 L1 TTL 이내로 제한됨
+     */
+    private AllocationStatusSnapShot loadWithTieredCache(Long matchId, Long blockId, boolean normalized) {
+        String key = cacheKey(matchId, blockId, normalized);
+        Cache nearCache = caffeineCacheManager.getCache(NEAR_CACHE_NAME);
+
+        if (nearCache != null) {
+            AllocationStatusSnapShot cached = nearCache.get(key, AllocationStatusSnapShot.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        return collapse(inFlightRemoteSnapshots, key, matchId, blockId, () -> {
+            AtomicLong generation = cacheGeneration(matchId, blockId);
+            long generationBeforeLoad = generation.get();
+
+            Cache remoteCache = redisCacheManager.getCache(CACHE_NAME);
+            AllocationStatusSnapShot result = remoteCache != null
+                    ? remoteCache.get(key, AllocationStatusSnapShot.class)
+                    : null;
+            boolean remoteHit = result != null;
+            if (!remoteHit) {
+                result = loadWithCollapsing(matchId, blockId, normalized);
+            }
+
+            // 조회 도중 무효화되었다면 이미 오래된 결과이므로 캐시에 넣지 않음
+            if (generation.get() == generationBeforeLoad) {
+                if (!remoteHit && remoteCache != null) {
+                    remoteCache.put(key, result);
+                }
+                if (nearCache != null) {
+                    nearCache.put(key, result);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 좌석 현황 캐시 무효화 (Redis Pub/Sub 수신 시 노드마다 호출)
+     * - Redis 캐시는 공유되므로 노드 수만큼 중복 삭제되지만 멱등이라 문제없음
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictAllocationStatusSnapShot(Long matchId, Long blockId) {
+        cacheGeneration(matchId, blockId).incrementAndGet();
+        evict(redisCacheManager.getCache(CACHE_NAME), matchId, blockId);
+        evict(caffeineCacheManager.getCache(CACHE_NAME), matchId, blockId);
+        evict(caffeineCacheManager.getCache(NEAR_CACHE_NAME), matchId, blockId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictAllocationStatusView(Long matchId, Long blockId) {
+        recordAllocationStatusViewPort.recordAllocationStatusViewInvalidation(matchId, blockId);
+    }
+
+    private void evict(Cache cache, Long matchId, Long blockId) {
+        if (cache != null) {
+            cache.evict(cacheKey(matchId, blockId, true));
+            cache.evict(cacheKey(matchId, blockId, false));
+        }
+    }
+
+    private String cacheKey(Long matchId, Long blockId, boolean normalized) {
+        return matchId + ":" + blockId + ":" + (normalized ? "n" : "d");
+    }
+
+    private AtomicLong cacheGeneration(Long matchId, Long blockId) {
+        return cacheGenerations.computeIfAbsent(matchId + ":" + blockId, key -> new AtomicLong());
+    }
+
+    /**
+     * 전략 5: Materialized View
+     * - 경기/구간별로 미리 만든 좌석 현황을 조회 (DB 조회 없음, 쓰기 시 이벤트로 갱신되므로 캐시 만료 지연 없음)
+     */
+    private AllocationStatusSnapShot loadFromView(Long matchId, Long blockId) {
+        return loadAllocationStatusViewPort.loadAllocationStatusView(matchId, blockId);
+    }
+
+    /**
+     * (afterChangeSeq, 최근 순번] 구간을 조회 (순번은 쓰기 트랜잭션이 부여하므로 조회 시 잠금/쓰기 없음)
+     * - 최근 순번은 경기별로 커밋 순서대로 증가하므로 이 구간에 새 변경분이 나중에 나타나지 않음
+     * - 조회 이후 다시 변경된 좌석은 새 트랜잭션의 순번으로 다시 전송됨
+     */
+    @Override
+    public AllocationStatusChanges getAllocationChangesAfter(Long matchId, Collection<Long> blockIds, Long afterChangeSeq) {
+        Long latestChangeSeq = loadAllocationStatusPort.loadLatestChangeSeq(matchId);
+        if (latestChangeSeq <= afterChangeSeq) {
+            return new AllocationStatusChanges(List.of(), afterChangeSeq);
+        }
+        List<AllocationStatus> changes = loadAllocationStatusPort.loadAllocationStatusesBetween(
+                matchId, blockIds, afterChangeSeq, latestChangeSeq);
+        return new AllocationStatusChanges(changes, latestChangeSeq);
+    }
+
+    @Override
+    public Long getLatestChangeSeq(Long matchId) {
+        return loadAllocationStatusPort.loadLatestChangeSeq(matchId);
+    }
+
+    // 이벤트 스트림만 사용하므로 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void startAllocationEvents(AllocationBlockKey key) {
+        loadAllocationEventPort.resetAllocationEventCursor(key);
+    }
+
     @Override
-    public List<AllocationStatus> getAllocationChangesSince(Long matchId, Long blockId, LocalDateTime since) {
-        return loadAllocationStatusPort.loadAllocationStatusesSince(matchId, blockId, since);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AllocationStatus> getAllocationEvents(Collection<AllocationBlockKey> keys) {
+        return loadAllocationEventPort.loadAllocationEvents(keys);
     }
 }
@@ -0,0 +1,11 @@
+package dev.ticketing.core.site.application.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AllocationStatusUnavailableException extends SiteException {
+
+    public AllocationStatusUnavailableException(final Long matchId, final Long blockId, final Throwable cause) {
+        super(String.format("Allocation status is temporarily unavailable for match %d, block %d", matchId, blockId),
+                HttpStatus.SERVICE_UNAVAILABLE, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package dev.ticketing.core.site.application.service.exception;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidSeatSelectionException extends SiteException {
+
+    public InvalidSeatSelectionException(final Long matchId, final List<Long> seatIds, final int maxSeats) {
+        super(String.format("Invalid seat selection %s for match %d. Select 1 to %d distinct seats",
+                seatIds, matchId, maxSeats), HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidSeatSelectionException(final Long matchId, final Long blockId, final int count, final int maxSeats) {
+        super(String.format("Invalid seat count %d in block %d for match %d. Select 1 to %d seats",
+                count, blockId, matchId, maxSeats), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.ticketing.core.site.application.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class NoAdjacentSeatsAvailableException extends SiteException {
+
+    public NoAdjacentSeatsAvailableException(final Long matchId, final Long blockId, final int count) {
+        super(String.format("No %d adjacent seats available in block %d for match %d", count, blockId, matchId),
+                HttpStatus.CONFLICT);
+    }
+}
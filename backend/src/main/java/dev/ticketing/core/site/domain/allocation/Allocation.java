@@ -91,6 +91,42 @@ public class Allocation {
                 .build();
     }
 
+    public Allocation extendHold(final LocalDateTime expiresAt) {
+        // 이미 더 늦은 만료 시각은 앞당기지 않음
+        LocalDateTime extended = this.holdExpiresAt != null && this.holdExpiresAt.isAfter(expiresAt)
+                ? this.holdExpiresAt
+                : expiresAt;
+        return Allocation.builder()
+                .id(this.id)
+                .userId(this.userId)
+                .matchId(this.matchId)
+                .blockId(this.blockId)
+                .seatId(this.seatId)
+                .reservationId(this.reservationId)
+                .state(this.state)
+                .holdExpiresAt(extended)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public Allocation restoreHold(final LocalDateTime expiresAt) {
+        // 연장 전 만료 시각으로 되돌리며, 이미 더 이른 만료 시각은 늦추지 않음
+        LocalDateTime restored = this.holdExpiresAt != null && this.holdExpiresAt.isBefore(expiresAt)
+                ? this.holdExpiresAt
+                : expiresAt;
+        return Allocation.builder()
+                .id(this.id)
+                .userId(this.userId)
+                .matchId(this.matchId)
+                .blockId(this.blockId)
+                .seatId(this.seatId)
+                .reservationId(this.reservationId)
+                .state(this.state)
+                .holdExpiresAt(restored)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
     public Allocation release() {
         return Allocation.builder()
                 .id(this.id)
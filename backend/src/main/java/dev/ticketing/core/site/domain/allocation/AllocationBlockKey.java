@@ -0,0 +1,10 @@
+package dev.ticketing.core.site.domain.allocation;
+
+/**
+ * AllocationBlockKey: 좌석 현황 구독 단위 (경기 + 구간)
+ */
+public record AllocationBlockKey(
+        Long matchId,
+        Long blockId
+) {
+}
@@ -0,0 +1,26 @@
+package dev.ticketing.core.site.domain.allocation;
+
+/**
+ * AllocationHoldResult - 원자적 좌석 점유 시도 결과
+ */
+public enum AllocationHoldResult {
+    /**
+     * 점유 성공 (AVAILABLE 또는 만료된 HOLD → HOLD)
+     */
+    HELD,
+
+    /**
+     * 요청한 사용자가 이미 점유 중
+     */
+    ALREADY_HELD_BY_USER,
+
+    /**
+     * 다른 사용자가 점유 중
+     */
+    HELD_BY_OTHER,
+
+    /**
+     * 이미 판매 완료된 좌석
+     */
+    OCCUPIED
+}
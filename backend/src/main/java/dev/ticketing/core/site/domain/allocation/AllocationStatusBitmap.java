@@ -0,0 +1,44 @@
+package dev.ticketing.core.site.domain.allocation;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * AllocationStatusBitmap: 구간 좌석 현황의 압축 표현 (Read Model)
+ *
+ * - 좌석당 2bit (AllocationState ordinal: 0=AVAILABLE, 1=HOLD, 2=OCCUPIED)
+ * - 좌석 순서는 구간 내 좌석 ID 오름차순 (i번째 좌석 = bitmap[i / 4] 의 (i % 4) * 2 비트부터 2bit)
+ * - 만료된 HOLD 는 AVAILABLE 로 기록
+ * - version 은 경기의 변경 순번으로, SSE 구독 시 Last-Event-ID 로 그대로 사용할 수 있음
+ */
+public record AllocationStatusBitmap(
+        Long version,
+        int seatCount,
+        byte[] bitmap
+) {
+    public static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_BYTE = Byte.SIZE / BITS_PER_SEAT;
+
+    public static AllocationStatusBitmap of(final Long version, final List<AllocationStatus> allocationStatuses,
+            final LocalDateTime now) {
+        List<AllocationStatus> ordered = allocationStatuses.stream()
+                .sorted(Comparator.comparing(AllocationStatus::seatId))
+                .toList();
+
+        byte[] bitmap = new byte[(ordered.size() + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE];
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            int state = stateOf(ordered.get(ordinal), now).ordinal();
+            bitmap[ordinal / SEATS_PER_BYTE] |= (byte) (state << ((ordinal % SEATS_PER_BYTE) * BITS_PER_SEAT));
+        }
+        return new AllocationStatusBitmap(version, ordered.size(), bitmap);
+    }
+
+    private static AllocationState stateOf(final AllocationStatus status, final LocalDateTime now) {
+        if (status.state() == AllocationState.HOLD
+                && status.holdExpiresAt() != null && !status.holdExpiresAt().isAfter(now)) {
+            return AllocationState.AVAILABLE;
+        }
+        return status.state();
+    }
+}
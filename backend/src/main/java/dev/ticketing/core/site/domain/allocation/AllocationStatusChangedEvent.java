@@ -0,0 +1,8 @@
+package dev.ticketing.core.site.domain.allocation;
+
+/**
+ * AllocationStatusChangedEvent: 좌석 상태 변경 도메인 이벤트
+ * 좌석 상태를 기록한 트랜잭션이 커밋된 후 스트림 발행, 좌석 현황 뷰 갱신 등에 사용
+ */
+public record AllocationStatusChangedEvent(AllocationStatus status) {
+}
@@ -0,0 +1,13 @@
+package dev.ticketing.core.site.domain.allocation;
+
+import java.util.List;
+
+/**
+ * AllocationStatusChanges: 변경 순번 커서 기반 좌석 상태 변경분 (Read Model)
+ * lastChangeSeq 는 다음 조회의 시작점이자 SSE 이벤트 ID (Last-Event-ID)
+ */
+public record AllocationStatusChanges(
+        List<AllocationStatus> changes,
+        Long lastChangeSeq
+) {
+}
@@ -1,36 +1,68 @@
 package dev.ticketing.core.ticketing;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import dev.ticketing.core.payment.application.port.in.ConfirmPaymentCommand;
+import dev.ticketing.core.payment.application.port.in.ConfirmPaymentUseCase;
+import dev.ticketing.core.payment.application.port.in.RecoverPaymentUseCase;
 import dev.ticketing.core.payment.application.port.out.gateway.PaymentGatewayPort;
 import dev.ticketing.core.payment.application.port.out.persistence.LoadPaymentPort;
 import dev.ticketing.core.payment.application.port.out.persistence.RecordPaymentPort;
 import dev.ticketing.core.payment.application.service.exception.InvalidPaymentStateException;
 import dev.ticketing.core.payment.application.service.exception.PaymentNotFoundException;
 import dev.ticketing.core.payment.domain.Payment;
+import dev.ticketing.core.payment.domain.PaymentApprovalStatus;
 import dev.ticketing.core.payment.domain.PaymentStatus;
 import dev.ticketing.core.reservation.application.port.out.persistence.LoadReservationPort;
 import dev.ticketing.core.reservation.application.port.out.persistence.RecordReservationPort;
 import dev.ticketing.core.reservation.application.service.exception.ReservationNotFoundException;
+import dev.ticketing.core.reservation.application.service.exception.ReservationSeatsLostException;
 import dev.ticketing.core.reservation.domain.Reservation;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.LoadAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.LockAllocationPort;
 import dev.ticketing.core.site.application.port.out.persistence.allocation.RecordAllocationPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.PublishAllocationEventPort;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.UpdateAllocationStatusPort;
 import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
 
 /**
  * 여러 도메인에 걸친 티켓팅 워크플로우를 조율하는 오케스트레이션 서비스
+ *
+ * 결제 승인은 PG 호출 동안 DB 커넥션을 잡지 않도록 세 단계로 나눈다.
+ * 1. PENDING -> IN_PROGRESS (짧은 트랜잭션, 같은 결제의 동시 승인 요청 중 하나만 통과)
+ *    예약 좌석의 점유 만료를 연장하고, 좌석을 이미 잃었으면 PG 를 호출하지 않고 거절
+ * 2. PG 승인 호출 (트랜잭션/커넥션 없음)
+ * 3. 결제/예약/좌석 확정 (짧은 트랜잭션, IN_PROGRESS 인 경우에만 반영하므로 멱등)
+ *    승인 거절이면 연장한 점유 만료를 되돌리고 결제를 FAILED 로 기록
+ *    좌석을 먼저 확정하고 확정된 좌석 수가 예약 좌석 수와 다르면 롤백 후 결제를 CANCEL_PENDING 으로 기록,
+ *    PG 승인을 취소하고 REFUNDED 로 전환 (취소 실패 시 복구에서 다시 취소)
+ * 2~3 사이 장애로 IN_PROGRESS 에 남은 결제는 PG 승인 결과를 조회해 3단계를 다시 수행한다.
+ * IN_PROGRESS 결제의 예약 좌석은 만료 반환 대상에서 제외된다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class TicketingService {
+public class TicketingService implements ConfirmPaymentUseCase, RecoverPaymentUseCase {
+
+    private static final String PAYMENT_GATEWAY_PROVIDER = "TOSS_PAYMENTS";
+    private static final String SEATS_LOST_CANCEL_REASON = "예약 좌석 확보 실패";
+
+    private final TransactionTemplate transactionTemplate;
 
     // Payment domain ports
     private final LoadPaymentPort loadPaymentPort;
@@ -44,56 +76,252 @@ public class TicketingService {
     // Site domain ports
     private final LoadAllocationPort loadAllocationPort;
     private final RecordAllocationPort recordAllocationPort;
+    private final LockAllocationPort lockAllocationPort;
+    private final PublishAllocationEventPort publishAllocationEventPort;
+    private final UpdateAllocationStatusPort updateAllocationStatusPort;
+
+    @Value("${seat.allocation.engine:database}")
+    private String allocationEngine;
+
+    @Value("${payment.confirm.hold-extension-ms:600000}")
+    private long holdExtensionMillis;
+
+    @Override
+    public Payment confirmPayment(final ConfirmPaymentCommand command) {
+        return confirmPaymentAndFinalizeReservation(command);
+    }
 
     /**
      * Orchestration
      * 결제 확인 및 예약 확정 워크플로우
      * Payment → Reservation → Allocation 도메인을 조율
      */
-    @Transactional
     public Payment confirmPaymentAndFinalizeReservation(final ConfirmPaymentCommand command) {
         log.info("Starting payment confirmation workflow: paymentId={}", command.paymentId());
 
-        // 1. Load and validate Payment
-        final Payment payment = loadPaymentPort.loadById(command.paymentId())
+        // 1. Mark Payment as IN_PROGRESS
+        final Payment inProgressPayment = transactionTemplate.execute(status -> startPayment(command));
+
+        // 2. Execute Payment via Gateway (no connection held)
+        final boolean success;
+        try {
+            success = paymentGatewayPort.executePayment(
+                    command.paymentKey(),
+                    command.orderId(),
+                    command.amount());
+        } catch (RuntimeException e) {
+            // 승인 여부를 알 수 없으므로 IN_PROGRESS 로 남겨 복구 시 PG 조회 결과로 확정
+            log.error("Payment gateway call failed, left for recovery: paymentId={}", command.paymentId(), e);
+            throw e;
+        }
+
+        // 3. Finalize Payment, Reservation and Allocations
+        return finalizePaymentWithSeatLocks(inProgressPayment, success);
+    }
+
+    @Override
+    public int recoverInProgressPayments(final LocalDateTime requestedBefore) {
+        final List<Payment> payments = loadPaymentPort.loadInProgressPaymentsRequestedBefore(requestedBefore);
+        int recovered = 0;
+        for (final Payment payment : payments) {
+            try {
+                final PaymentApprovalStatus approvalStatus =
+                        paymentGatewayPort.loadPaymentApprovalStatus(payment.getPaymentTransactionId());
+                if (approvalStatus == PaymentApprovalStatus.UNKNOWN) {
+                    // 승인 여부를 모르는 채 FAILED 로 확정하면 승인된 결제의 좌석을 잃으므로 다음 복구까지 보류
+                    log.warn("Payment approval unknown, left in progress: paymentId={}", payment.getId());
+                    continue;
+                }
+                finalizePaymentWithSeatLocks(payment, approvalStatus == PaymentApprovalStatus.APPROVED);
+                recovered++;
+                log.info("Payment recovered: paymentId={}, approvalStatus={}", payment.getId(), approvalStatus);
+            } catch (Exception e) {
+                log.error("Payment recovery failed: paymentId={}", payment.getId(), e);
+            }
+        }
+        return recovered;
+    }
+
+    @Override
+    public int recoverCancelPendingPayments() {
+        int cancelled = 0;
+        for (final Payment payment : loadPaymentPort.loadCancelPendingPayments()) {
+            try {
+                if (cancelPayment(payment).getStatus() == PaymentStatus.REFUNDED) {
+                    cancelled++;
+                }
+            } catch (Exception e) {
+                log.error("Payment cancel recovery failed: paymentId={}", payment.getId(), e);
+            }
+        }
+        return cancelled;
+    }
+
+    private Payment startPayment(final ConfirmPaymentCommand command) {
+        final Payment payment = loadPaymentPort.loadByIdWithLock(command.paymentId())
                 .orElseThrow(() -> new PaymentNotFoundException(command.paymentId()));
 
         if (payment.getStatus() != PaymentStatus.PENDING) {
             throw new InvalidPaymentStateException(command.paymentId(), payment.getStatus());
         }
 
-        // 2. Execute Payment via Gateway
-        final boolean success = paymentGatewayPort.executePayment(
-                command.paymentKey(),
-                command.orderId(),
-                command.amount());
+        // PG 승인 동안 점유가 만료되어 반환/재점유되지 않도록 연장 (좌석을 이미 잃었으면 롤백되어 PENDING 유지)
+        final Reservation reservation = loadReservation(payment.getReservationId());
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime holdExpiresAt = loadEarliestHoldExpiry(reservation.getId());
+        final List<Allocation> extended = recordAllocationPort.recordReservationHoldExtensions(
+                reservation.getId(), now.plus(Duration.ofMillis(holdExtensionMillis)), now);
+        if (!reservation.hasAllSeats(extended.size())) {
+            throw new ReservationSeatsLostException(reservation.getId(), reservation.getSeatCount(), extended.size());
+        }
+        for (final Allocation allocation : extended) {
+            publishAllocationEventPort.publishAllocationStatusChangeEvent(AllocationStatus.from(allocation));
+        }
+
+        return recordPaymentPort.record(
+                payment.markInProgress(PAYMENT_GATEWAY_PROVIDER, command.paymentKey(), holdExpiresAt));
+    }
+
+    // 승인 거절 시 되돌릴 연장 전 점유 만료 시각 (좌석마다 다르면 가장 이른 시각)
+    private LocalDateTime loadEarliestHoldExpiry(final Long reservationId) {
+        return loadAllocationPort.loadAllocationsByReservationId(reservationId).stream()
+                .filter(allocation -> allocation.getState() == AllocationState.HOLD)
+                .map(Allocation::getHoldExpiresAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    // 예약 좌석 잠금을 트랜잭션 시작 전에 획득하여 잠금 대기 동안 DB 커넥션을 점유하지 않음 (메모리 엔진)
+    private Payment finalizePaymentWithSeatLocks(final Payment payment, final boolean success) {
+        final Payment finalized = lockAllocationPort.executeWithReservationSeatLocks(payment.getReservationId(), () -> {
+            try {
+                return transactionTemplate.execute(status -> finalizePayment(payment.getId(), success));
+            } catch (ReservationSeatsLostException e) {
+                // 일부 좌석만 확정된 변경은 롤백되었으므로 결제를 승인 취소 대기로 기록
+                log.error("Reservation seats lost after payment approval, cancelling: paymentId={}",
+                        payment.getId(), e);
+                return transactionTemplate.execute(status -> recordCancelPending(payment.getId()));
+            }
+        });
+
+        // PG 승인 취소는 좌석 잠금/커넥션 없이 호출
+        if (finalized.getStatus() == PaymentStatus.CANCEL_PENDING) {
+            return cancelPayment(finalized);
+        }
+        return finalized;
+    }
+
+    // 취소 호출이 실패하면 CANCEL_PENDING 으로 남겨 복구 시 다시 취소 (PG 취소는 멱등)
+    private Payment cancelPayment(final Payment payment) {
+        try {
+            paymentGatewayPort.cancelPayment(payment.getPaymentTransactionId(), SEATS_LOST_CANCEL_REASON);
+        } catch (RuntimeException e) {
+            log.error("Payment gateway cancel failed, left for recovery: paymentId={}", payment.getId(), e);
+            return payment;
+        }
+        final Payment refunded = transactionTemplate.execute(status -> recordRefund(payment.getId()));
+        log.info("Payment approval cancelled: paymentId={}", payment.getId());
+        return refunded;
+    }
+
+    private Payment finalizePayment(final Long paymentId, final boolean success) {
+        final Payment payment = loadPaymentPort.loadByIdWithLock(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+
+        // 이미 다른 요청(또는 복구)이 확정한 결제는 그대로 반환
+        if (payment.getStatus() != PaymentStatus.IN_PROGRESS) {
+            log.info("Payment already finalized: paymentId={}, status={}", paymentId, payment.getStatus());
+            return payment;
+        }
 
         if (!success) {
-            log.warn("Payment execution failed: paymentId={}", command.paymentId());
-            final Payment failedPayment = payment.markFailed("TOSS_PAYMENTS", command.paymentKey());
-            return recordPaymentPort.record(failedPayment);
+            log.warn("Payment execution failed: paymentId={}", paymentId);
+            restoreReservationHolds(payment);
+            return recordFailure(payment);
+        }
+
+        // 3-1. Update Allocations to OCCUPIED (좌석을 잃었으면 예외로 롤백하고 결제를 FAILED 로 기록)
+        final Reservation reservation = loadReservation(payment.getReservationId());
+        final List<Allocation> allocations = recordAllocationPort.recordReservationOccupations(reservation.getId());
+        if (!reservation.hasAllSeats(allocations.size())) {
+            throw new ReservationSeatsLostException(reservation.getId(), reservation.getSeatCount(),
+                    allocations.size());
+        }
+        for (final Allocation allocation : allocations) {
+            publishAllocationEventPort.publishAllocationStatusChangeEvent(AllocationStatus.from(allocation));
         }
+        log.info("Allocations marked as occupied: count={}", allocations.size());
 
-        // 3. Update Payment to PAID
-        final Payment paidPayment = payment.markPaid("TOSS_PAYMENTS", command.paymentKey());
+        // 3-2. Update Payment to PAID
+        final Payment paidPayment = payment.markPaid(PAYMENT_GATEWAY_PROVIDER, payment.getPaymentTransactionId());
         final Payment savedPayment = recordPaymentPort.record(paidPayment);
         log.info("Payment marked as paid: paymentId={}", savedPayment.getId());
 
-        // 4. Update Reservation to CONFIRMED
-        final Reservation reservation = loadReservationPort.loadById(payment.getReservationId())
-                .orElseThrow(() -> new ReservationNotFoundException(payment.getReservationId()));
+        // 3-3. Update Reservation to CONFIRMED
         final Reservation confirmedReservation = reservation.confirm();
         recordReservationPort.record(confirmedReservation);
         log.info("Reservation confirmed: reservationId={}", reservation.getId());
 
-        // 5. Update Allocations to OCCUPIED
-        final List<Allocation> allocations = loadAllocationPort.loadAllocationsByReservationId(reservation.getId());
-        for (final Allocation allocation : allocations) {
-            final Allocation occupiedAllocation = allocation.occupy();
-            recordAllocationPort.recordAllocation(occupiedAllocation);
+        // Redis 엔진: 커밋 이후 점유 키를 OCCUPIED(영구)로 전환하여 TTL 만료로 재점유되지 않도록 함
+        if ("redis".equals(allocationEngine)) {
+            afterCommit(() -> allocations.forEach(allocation -> updateAllocationStatusPort.updateAllocationStatus(
+                    allocation.getMatchId(), allocation.getSeatId(), AllocationState.OCCUPIED)));
         }
-        log.info("Allocations marked as occupied: count={}", allocations.size());
 
         return savedPayment;
     }
+
+    // 승인 동안 연장한 점유 만료를 되돌려 거절된 결제의 좌석이 연장된 시간만큼 묶이지 않도록 함
+    private void restoreReservationHolds(final Payment payment) {
+        if (payment.getReservationHoldExpiresAt() == null) {
+            return;
+        }
+        final List<Allocation> restored = recordAllocationPort.recordReservationHoldRestorations(
+                payment.getReservationId(), payment.getReservationHoldExpiresAt(), LocalDateTime.now());
+        for (final Allocation allocation : restored) {
+            publishAllocationEventPort.publishAllocationStatusChangeEvent(AllocationStatus.from(allocation));
+        }
+    }
+
+    private Payment recordCancelPending(final Long paymentId) {
+        final Payment payment = loadPaymentPort.loadByIdWithLock(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        if (payment.getStatus() != PaymentStatus.IN_PROGRESS) {
+            return payment;
+        }
+        return recordPaymentPort.record(payment.markCancelPending());
+    }
+
+    private Payment recordRefund(final Long paymentId) {
+        final Payment payment = loadPaymentPort.loadByIdWithLock(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        if (payment.getStatus() != PaymentStatus.CANCEL_PENDING) {
+            return payment;
+        }
+        return recordPaymentPort.record(payment.markRefunded());
+    }
+
+    private Payment recordFailure(final Payment payment) {
+        final Payment failedPayment = payment.markFailed(PAYMENT_GATEWAY_PROVIDER, payment.getPaymentTransactionId());
+        return recordPaymentPort.record(failedPayment);
+    }
+
+    private Reservation loadReservation(final Long reservationId) {
+        return loadReservationPort.loadById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+    }
+
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
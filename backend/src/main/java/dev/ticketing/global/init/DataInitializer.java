@@ -51,8 +51,11 @@ public class DataInitializer implements ApplicationRunner {
             long startTime = System.currentTimeMillis();
             log.info("Initializing Stadium Data...");
             initStadium();
-            long endTime = System.currentTimeMillis();
-            log.info("Stadium Data Initialized. Took {} ms", endTime - startTime);
+            long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+            long seatCount = seatRepository.count();
+            // 삽입 처리량 비교용 (hibernate.jdbc.batch_size 변경 전후로 비교)
+            log.info("Stadium Data Initialized. Took {} ms, seats={}, {} seats/s",
+                    elapsed, seatCount, seatCount * 1000 / elapsed);
         }
 
         if (matchRepository.count() == 0) {
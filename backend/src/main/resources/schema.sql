@@ -0,0 +1,77 @@
+-- Hibernate ddl-auto 이후 실행되므로 (spring.jpa.defer-datasource-initialization) 모든 구문은 재실행 가능해야 함
+
+-- 좌석 상태 변경 순번 (SSE 변경분 커서, Last-Event-ID)
+-- 경기별 카운터(matches.change_seq)를 좌석을 바꾼 트랜잭션의 커밋 직전에 올리고, 그 값을 바뀐 좌석 행에 기록
+-- 카운터를 올린 트랜잭션이 커밋할 때까지 경기 행 잠금이 유지되므로 순번은 경기 안에서 커밋 순서대로 증가하고,
+-- 커밋된 카운터 이하의 순번은 모두 조회 가능 (다른 경기/다른 트랜잭션의 진행 여부와 무관).
+-- 대신 같은 경기의 커밋은 카운터 갱신부터 커밋까지의 짧은 구간만큼 직렬화됨
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS change_seq bigint NOT NULL DEFAULT 0;
+ALTER TABLE allocations ALTER COLUMN change_seq SET DEFAULT 0;
+
+-- 트랜잭션 안에서 경기별 카운터는 한 번만 올리고 (트랜잭션 범위 설정값에 보관) 바뀐 행마다 같은 순번을 기록
+CREATE OR REPLACE FUNCTION assign_allocation_change_seq() RETURNS trigger LANGUAGE plpgsql AS '
+DECLARE
+    cache_key text := ''ticketing.change_seq_'' || NEW.match_id;
+    seq bigint := nullif(current_setting(cache_key, true), '''')::bigint;
+BEGIN
+    IF seq IS NULL THEN
+        UPDATE matches SET change_seq = change_seq + 1 WHERE id = NEW.match_id RETURNING change_seq INTO seq;
+        PERFORM set_config(cache_key, seq::text, true);
+    END IF;
+    UPDATE allocations SET change_seq = seq WHERE id = NEW.id;
+    RETURN NULL;
+END';
+
+-- 커밋 시점에 실행되는 지연 트리거 (트리거 안의 순번 기록은 다시 트리거하지 않음)
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = ''trg_allocation_change_seq'') THEN
+        CREATE CONSTRAINT TRIGGER trg_allocation_change_seq AFTER INSERT OR UPDATE ON allocations
+            DEFERRABLE INITIALLY DEFERRED FOR EACH ROW WHEN (pg_trigger_depth() = 0)
+            EXECUTE FUNCTION assign_allocation_change_seq();
+    END IF;
+END';
+
+-- 만료 점유 반환 스케줄러용 부분 인덱스 (HOLD 행만 포함하므로 크기가 작음)
+CREATE INDEX IF NOT EXISTS idx_allocations_hold_expires_at ON allocations (hold_expires_at) WHERE status = 'HOLD';
+
+-- ID 생성: IDENTITY -> 시퀀스(pooled-lo, allocationSize 50) 전환 (JDBC 배치 INSERT 허용)
+-- 기존 DB 의 IDENTITY 속성을 제거하고, 시퀀스가 아직 쓰이지 않았거나 기존 ID 보다 뒤처진 경우에만 최대 ID 다음으로 맞춤
+-- (이미 배분된 pooled-lo 구간 [last_value, last_value + 49] 안의 ID 는 건드리지 않음)
+ALTER TABLE areas ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE sections ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE blocks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE seats ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE matches ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reservations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE payments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE allocations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('areas_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM areas) t, areas_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('sections_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM sections) t, sections_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('blocks_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM blocks) t, blocks_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('seats_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM seats) t, seats_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('matches_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM matches) t, matches_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('users_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM users) t, users_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('reservations_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM reservations) t, reservations_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('payments_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM payments) t, payments_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+SELECT setval('allocations_seq', t.max_id + 1, false) FROM (SELECT MAX(id) AS max_id FROM allocations) t, allocations_seq s WHERE t.max_id IS NOT NULL AND (NOT s.is_called OR t.max_id >= s.last_value + 50);
+
+-- 애플리케이션의 네이티브 INSERT 는 ID 를 직접 채움 (50개 단위 구간을 행 50개마다 하나씩 사용, AllocationRepository 참고)
+-- 기본값은 ID 없이 넣는 수동/테스트 INSERT 용 (이 경우 행마다 구간 하나를 소비)
+ALTER TABLE areas ALTER COLUMN id SET DEFAULT nextval('areas_seq');
+ALTER TABLE sections ALTER COLUMN id SET DEFAULT nextval('sections_seq');
+ALTER TABLE blocks ALTER COLUMN id SET DEFAULT nextval('blocks_seq');
+ALTER TABLE seats ALTER COLUMN id SET DEFAULT nextval('seats_seq');
+ALTER TABLE matches ALTER COLUMN id SET DEFAULT nextval('matches_seq');
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER TABLE reservations ALTER COLUMN id SET DEFAULT nextval('reservations_seq');
+ALTER TABLE payments ALTER COLUMN id SET DEFAULT nextval('payments_seq');
+ALTER TABLE allocations ALTER COLUMN id SET DEFAULT nextval('allocations_seq');
+
+-- 결제 상태 IN_PROGRESS, CANCEL_PENDING 추가: ddl-auto update 는 기존 enum CHECK 제약을 갱신하지 않으므로 다시 생성
+ALTER TABLE payments DROP CONSTRAINT IF EXISTS payments_status_check;
+ALTER TABLE payments ADD CONSTRAINT payments_status_check
+    CHECK (status IN ('PENDING', 'IN_PROGRESS', 'PAID', 'FAILED', 'CANCEL_PENDING', 'REFUNDED'));
+
+-- 만료 반환 시 결제 승인 진행 중인 예약 제외 조회용 부분 인덱스 (IN_PROGRESS 결제만 포함)
+CREATE INDEX IF NOT EXISTS idx_payments_reservation_in_progress ON payments (reservation_id) WHERE status = 'IN_PROGRESS';
@@ -4,6 +4,7 @@ import dev.ticketing.acceptance.client.model.BaseClient;
 import dev.ticketing.acceptance.client.model.TestResponse;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import java.util.List;
 import java.util.Map;
 
 public class AllocationClient extends BaseClient {
@@ -22,6 +23,26 @@ public class AllocationClient extends BaseClient {
                 .returnResult());
     }
 
+    public TestResponse holdSeats(Long matchId, List<Long> seatIds, Long userId) {
+        return toTestResponse(webTestClient.post()
+                .uri("/api/matches/{matchId}/allocation/seats/hold", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("userId", userId, "seatIds", seatIds))
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult());
+    }
+
+    public TestResponse assignSeats(Long matchId, Long blockId, Long userId, int count) {
+        return toTestResponse(webTestClient.post()
+                .uri("/api/matches/{matchId}/allocation/blocks/{blockId}/seats/assign", matchId, blockId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("userId", userId, "count", count))
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult());
+    }
+
     public TestResponse releaseSeat(Long matchId, Long seatId, Long userId) {
         return toTestResponse(webTestClient.post()
                 .uri("/api/matches/{matchId}/allocation/seats/{seatId}/release", 
@@ -42,4 +63,14 @@ public class AllocationClient extends BaseClient {
                 .expectBody(byte[].class)
                 .returnResult());
     }
+
+    public TestResponse confirmSeats(Long matchId, List<Long> seatIds, Long userId) {
+        return toTestResponse(webTestClient.post()
+                .uri("/api/matches/{matchId}/allocation/seats/confirm", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("userId", userId, "seatIds", seatIds))
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult());
+    }
 }
@@ -4,6 +4,7 @@ import dev.ticketing.acceptance.client.AllocationClient;
 import dev.ticketing.acceptance.client.SiteClient;
 import dev.ticketing.acceptance.client.model.TestResponse;
 import dev.ticketing.acceptance.context.TestContext;
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -12,10 +13,15 @@ import io.cucumber.spring.ScenarioScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 @Slf4j
 @ScenarioScope
@@ -25,6 +31,8 @@ public class AllocationSteps {
     private final AllocationClient allocationClient;
     private final SiteClient siteClient;
     private final TestContext testContext;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase;
 
     @Given("사용자가 주어진 경기의 {string} 구역 {int}행 {int}열 좌석을 점유 중이다.")
     public void userHoldsSeat(String blockName, int row, int col) {
@@ -45,6 +53,129 @@ public class AllocationSteps {
         testContext.setResponse(response);
     }
 
+    @And("점유한 좌석의 점유 시간이 만료되었다.")
+    public void expireHeldSeat() {
+        // 점유 만료 시각을 과거로 돌려 TTL 경과를 재현
+        int updated = jdbcTemplate.update("""
+                UPDATE allocations SET hold_expires_at = NOW() - INTERVAL '1 minute'
+                WHERE match_id = ? AND seat_id = ? AND status = 'HOLD'
+                """, testContext.getMatchId(0L), testContext.getLastHeldSeatId());
+        assertThat(updated).isEqualTo(1);
+    }
+
+    @Then("만료된 좌석은 점유가 해제되어 이용 가능한 상태가 되어야 한다.")
+    public void verifyExpiredSeatReleased() {
+        Long matchId = testContext.getMatchId(0L);
+        Long seatId = testContext.getLastHeldSeatId();
+
+        // 만료 반환 스케줄러를 기다리지 않고 수동으로 트리거
+        await().atMost(Duration.ofSeconds(5))
+                .pollInterval(Duration.ofMillis(200))
+                .untilAsserted(() -> {
+                    releaseExpiredSeatsUseCase.releaseExpiredSeats(100);
+                    String status = jdbcTemplate.queryForObject(
+                            "SELECT status FROM allocations WHERE match_id = ? AND seat_id = ?",
+                            String.class, matchId, seatId);
+                    assertThat(status).isEqualTo("AVAILABLE");
+                });
+    }
+
+    @When("사용자가 주어진 경기의 {string} 구역 {int}행 {int}열부터 {int}열까지 좌석 일괄 점유를 요청하면,")
+    public void requestHoldSeats(String blockName, int row, int fromCol, int toCol) {
+        Long matchId = testContext.getMatchId(0L);
+        Long blockId = findBlockIdByName(blockName);
+        List<Long> seatIds = IntStream.rangeClosed(fromCol, toCol)
+                .mapToObj(col -> findSeatId(blockId, row, col))
+                .toList();
+
+        testContext.set("requestedSeatIds", seatIds);
+
+        TestResponse response = allocationClient.holdSeats(matchId, seatIds, testContext.getCurrentUserId());
+        testContext.setResponse(response);
+    }
+
+    @Then("요청한 좌석을 모두 점유해야 한다.")
+    public void verifyAllRequestedSeatsHeld() {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+
+        List<Long> requestedSeatIds = testContext.get("requestedSeatIds");
+        List<Number> heldSeatIds = testContext.getResponse().jsonPath().getList("data.heldSeats[*].seatId");
+        assertThat(heldSeatIds.stream().map(Number::longValue).toList())
+                .containsExactlyInAnyOrderElementsOf(requestedSeatIds);
+    }
+
+    @When("사용자가 주어진 경기의 {string} 구역에서 좌석 {int}개 자동 배정을 요청하면,")
+    public void requestAssignSeats(String blockName, int count) {
+        Long matchId = testContext.getMatchId(0L);
+        Long blockId = findBlockIdByName(blockName);
+
+        testContext.set("assignedBlockId", blockId);
+
+        TestResponse response = allocationClient.assignSeats(matchId, blockId, testContext.getCurrentUserId(), count);
+        testContext.setResponse(response);
+    }
+
+    @Then("같은 행의 연속된 좌석 {int}개를 배정받아야 한다.")
+    public void verifyAdjacentSeatsAssigned(int count) {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+
+        List<Long> assignedSeatIds = assignedSeatIds();
+        assertThat(assignedSeatIds).hasSize(count);
+
+        TestResponse seatsResponse = siteClient.getSeats(testContext.get("assignedBlockId"));
+        List<Map<String, Object>> seats = seatsResponse.jsonPath().getList("data.seats[*]");
+        List<Map<String, Object>> assignedSeats = seats.stream()
+                .filter(seat -> assignedSeatIds.contains(((Number) seat.get("id")).longValue()))
+                .toList();
+
+        assertThat(assignedSeats)
+                .extracting(seat -> seat.get("rowNumber"))
+                .containsOnly(assignedSeats.get(0).get("rowNumber"));
+        List<Integer> seatNumbers = assignedSeats.stream()
+                .map(seat -> ((Number) seat.get("seatNumber")).intValue())
+                .sorted()
+                .toList();
+        assertThat(seatNumbers.get(seatNumbers.size() - 1) - seatNumbers.get(0)).isEqualTo(count - 1);
+    }
+
+    @And("점유 중인 좌석은 배정되지 않아야 한다.")
+    public void verifyHeldSeatNotAssigned() {
+        assertThat(assignedSeatIds()).doesNotContain(testContext.getLastHeldSeatId());
+    }
+
+    @When("점유 중인 좌석의 좌석 확정을 요청하면,")
+    public void requestConfirmHeldSeats() {
+        TestResponse response = allocationClient.confirmSeats(testContext.getMatchId(0L),
+                testContext.getHeldSeatIds(), testContext.getCurrentUserId());
+        testContext.setResponse(response);
+    }
+
+    @When("사용자가 주어진 경기의 {string} 구역 {int}행 {int}열 좌석 확정을 요청하면,")
+    public void requestConfirmSeat(String blockName, int row, int col) {
+        Long matchId = testContext.getMatchId(0L);
+        Long seatId = findSeatId(findBlockIdByName(blockName), row, col);
+
+        TestResponse response = allocationClient.confirmSeats(matchId, List.of(seatId), testContext.getCurrentUserId());
+        testContext.setResponse(response);
+    }
+
+    @Then("점유 중인 좌석이 모두 확정되어야 한다.")
+    public void verifyHeldSeatsConfirmed() {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+
+        List<String> states = jdbcTemplate.queryForList(
+                "SELECT status FROM allocations WHERE match_id = ? AND seat_id = ANY(?)",
+                String.class, testContext.getMatchId(0L), testContext.getHeldSeatIds().toArray(Long[]::new));
+        assertThat(states)
+                .hasSize(testContext.getHeldSeatIds().size())
+                .containsOnly("OCCUPIED");
+    }
+
+    @Then("좌석 확정에 실패해야 한다.")
+    public void verifyConfirmFailure() {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @When("사용자가 주어진 경기의 {string} 구역 {int}행 {int}열 좌석 반납 요청하면,")
     public void requestReleaseSeat(String blockName, int row, int col) {
         Long matchId = testContext.getMatchId(0L);
@@ -102,6 +233,11 @@ public class AllocationSteps {
         testContext.setResponse(response);
     }
 
+    private List<Long> assignedSeatIds() {
+        List<Number> seatIds = testContext.getResponse().jsonPath().getList("data.heldSeats[*].seatId");
+        return seatIds.stream().map(Number::longValue).toList();
+    }
+
     /**
      * 구역 이름을 기반으로 blockId를 찾습니다.
      */
@@ -4,12 +4,16 @@ import dev.ticketing.acceptance.client.PaymentClient;
 import dev.ticketing.acceptance.client.ReservationClient;
 import dev.ticketing.acceptance.client.model.TestResponse;
 import dev.ticketing.acceptance.context.TestContext;
+import dev.ticketing.core.payment.application.port.in.RecoverPaymentUseCase;
+import dev.ticketing.core.payment.application.port.out.gateway.PaymentGatewayPort;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import io.cucumber.spring.ScenarioScope;
@@ -23,6 +27,9 @@ public class PaymentSteps {
     private final PaymentClient paymentClient;
     private final ReservationClient reservationClient;
     private final TestContext testContext;
+    private final JdbcTemplate jdbcTemplate;
+    private final RecoverPaymentUseCase recoverPaymentUseCase;
+    private final PaymentGatewayPort paymentGatewayPort;
     private Long lastPaymentId;
 
     @When("예약에 대해 결제를 요청하면")
@@ -46,6 +53,45 @@ public class PaymentSteps {
         testContext.setResponse(response);
     }
 
+    @When("승인이 거절되는 결제 키로 결제를 완료하면")
+    public void confirmPaymentWithDeclinedKey() {
+        // TossPaymentGatewayAdapter 는 "fail" 이 포함된 키를 거절
+        String paymentKey = "fail-" + UUID.randomUUID();
+        String orderId = UUID.randomUUID().toString();
+        TestResponse response = paymentClient.confirmPayment(lastPaymentId, paymentKey, orderId, 15000);
+        testContext.setResponse(response);
+    }
+
+    @Then("결제 승인이 거절되어야 한다.")
+    public void verifyPaymentRejected() {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @And("PG 승인 이후 결과를 기록하기 전에 서버가 중단되었다.")
+    public void paymentLeftInProgress() {
+        // PG 가 승인한 뒤 3단계 전에 중단된 상태를 재현 (승인 요청 시각은 복구 대상이 되도록 과거로)
+        String paymentKey = UUID.randomUUID().toString();
+        paymentGatewayPort.executePayment(paymentKey, UUID.randomUUID().toString(), 15000);
+        int updated = jdbcTemplate.update("""
+                UPDATE payments SET status = 'IN_PROGRESS', payment_gateway_provider = 'TOSS_PAYMENTS',
+                    payment_transaction_id = ?, confirm_requested_at = ?
+                WHERE id = ? AND status = 'PENDING'
+                """, paymentKey, LocalDateTime.now().minusMinutes(2), lastPaymentId);
+        assertThat(updated).isEqualTo(1);
+    }
+
+    @When("미확정 결제 복구가 실행되면")
+    public void recoverInProgressPayments() {
+        recoverPaymentUseCase.recoverInProgressPayments(LocalDateTime.now());
+    }
+
+    @And("저장된 결제 상태는 {string} 상태여야 한다.")
+    public void verifyStoredPaymentStatus(String status) {
+        String currentStatus = jdbcTemplate.queryForObject(
+                "SELECT status FROM payments WHERE id = ?", String.class, lastPaymentId);
+        assertThat(currentStatus).isEqualTo(status);
+    }
+
     @And("결제 상태는 {string} 상태여야 한다.")
     public void verifyPaymentStatus(String status) {
         TestResponse response = testContext.getResponse();
@@ -10,6 +10,7 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class ReservationSteps {
     private final AllocationClient allocationClient;
     private final SiteClient siteClient;
     private final TestContext testContext;
+    private final JdbcTemplate jdbcTemplate;
 
     //
 
@@ -64,6 +66,21 @@ public class ReservationSteps {
         }
     }
 
+    @Then("예약이 거절되어야 한다.")
+    public void verifyReservationRejected() {
+        assertThat(testContext.getStatusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @And("어떤 좌석에도 예약 번호가 배정되지 않아야 한다.")
+    public void verifyNoReservationAssigned() {
+        Integer reservationCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class);
+        assertThat(reservationCount).isZero();
+
+        Integer assignedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE reservation_id IS NOT NULL", Integer.class);
+        assertThat(assignedCount).isZero();
+    }
+
     //
 
     @And("점유한 좌석에 대해 예약을 요청했다.")
@@ -0,0 +1,133 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.status.GetAllocationStatusChangesUseCase;
+import dev.ticketing.core.site.domain.allocation.AllocationStatus;
+import dev.ticketing.core.site.domain.allocation.AllocationStatusChanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Allocation Status Change Sequence Tests")
+class AllocationStatusChangesTest {
+
+    @Autowired
+    private GetAllocationStatusChangesUseCase changesUseCase;
+
+    @Autowired
+    private HoldSeatsUseCase holdSeatsUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long matchId;
+    private Long blockId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
+        jdbcTemplate.execute("DELETE FROM seats");
+        jdbcTemplate.execute("DELETE FROM blocks");
+        jdbcTemplate.execute("DELETE FROM sections");
+        jdbcTemplate.execute("DELETE FROM areas");
+        jdbcTemplate.execute("DELETE FROM matches");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        jdbcTemplate.update("INSERT INTO users (id, email, password, role) VALUES (1, 'user1@test.com', 'password', 'USER')");
+
+        matchId = jdbcTemplate.queryForObject("""
+                INSERT INTO matches (stadium, home_team, away_team, date_time, status)
+                VALUES ('Test Stadium', 'Home Team', 'Away Team', NOW(), 'OPEN') RETURNING id
+                """, Long.class);
+        Long areaId = jdbcTemplate.queryForObject(
+                "INSERT INTO areas (name) VALUES ('Test Area') RETURNING id", Long.class);
+        Long sectionId = jdbcTemplate.queryForObject(
+                "INSERT INTO sections (area_id, name) VALUES (?, 'Test Section') RETURNING id", Long.class, areaId);
+        blockId = jdbcTemplate.queryForObject(
+                "INSERT INTO blocks (section_id, name) VALUES (?, 'Test Block') RETURNING id", Long.class, sectionId);
+
+        seatIds = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= 2; seatNumber++) {
+            Long seatId = jdbcTemplate.queryForObject(
+                    "INSERT INTO seats (block_id, row_number, seat_number) VALUES (?, 1, ?) RETURNING id",
+                    Long.class, blockId, seatNumber);
+            jdbcTemplate.update("""
+                    INSERT INTO allocations (match_id, block_id, seat_id, status, updated_at)
+                    VALUES (?, ?, ?, 'AVAILABLE', NOW())
+                    """, matchId, blockId, seatId);
+            seatIds.add(seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("A transaction left open elsewhere does not hold back committed changes")
+    void openTransactionElsewhere_doesNotDelayChanges() throws Exception {
+        Long before = changesUseCase.getLatestChangeSeq(matchId);
+
+        try (Connection idle = dataSource.getConnection(); Statement statement = idle.createStatement()) {
+            // Given - an unrelated transaction that has a transaction id and stays open
+            idle.setAutoCommit(false);
+            statement.execute("SELECT pg_current_xact_id()");
+
+            // When
+            holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, List.of(seatIds.get(0))));
+            AllocationStatusChanges changes = changesUseCase.getAllocationChangesAfter(matchId, List.of(blockId),
+                    before);
+
+            // Then
+            assertThat(changes.lastChangeSeq()).isGreaterThan(before);
+            assertThat(changes.changes())
+                    .extracting(AllocationStatus::seatId)
+                    .containsExactly(seatIds.get(0));
+
+            idle.rollback();
+        }
+    }
+
+    @Test
+    @DisplayName("Each committed change gets a higher sequence and earlier changes are not sent again")
+    void committedChanges_getIncreasingSequence() {
+        // Given
+        Long before = changesUseCase.getLatestChangeSeq(matchId);
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, List.of(seatIds.get(0))));
+        Long afterFirst = changesUseCase.getLatestChangeSeq(matchId);
+
+        // When
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, List.of(seatIds.get(1))));
+        AllocationStatusChanges changes = changesUseCase.getAllocationChangesAfter(matchId, List.of(blockId),
+                afterFirst);
+
+        // Then
+        assertThat(afterFirst).isGreaterThan(before);
+        assertThat(changes.lastChangeSeq()).isGreaterThan(afterFirst);
+        assertThat(changes.changes())
+                .as("Only the change after the cursor should be returned")
+                .extracting(AllocationStatus::seatId)
+                .containsExactly(seatIds.get(1));
+    }
+}
@@ -0,0 +1,266 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.reservation.application.port.in.CreateReservationCommand;
+import dev.ticketing.core.reservation.application.port.in.CreateReservationUseCase;
+import dev.ticketing.core.site.adapter.out.memory.allocation.InMemoryAllocationAdapter;
+import dev.ticketing.core.site.application.port.in.allocation.AllocateSeatCommand;
+import dev.ticketing.core.site.application.port.in.allocation.AllocateSeatUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
+import dev.ticketing.core.site.application.service.exception.SeatAlreadyHeldException;
+import dev.ticketing.core.site.domain.allocation.Allocation;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "seat.allocation.engine=memory")
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("In-Memory Allocation Engine Concurrency Tests")
+class MemoryAllocationEngineConcurrencyTest {
+
+    private static final int USER_COUNT = 10;
+    private static final int SEAT_COUNT = 4;
+
+    @Autowired
+    private AllocateSeatUseCase allocateSeatUseCase;
+
+    @Autowired
+    private HoldSeatsUseCase holdSeatsUseCase;
+
+    @Autowired
+    private CreateReservationUseCase createReservationUseCase;
+
+    @Autowired
+    private InMemoryAllocationAdapter allocationAdapter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트의 변경이 삭제 이후에 저장되지 않도록 먼저 비움
+        allocationAdapter.flushWriteBehind();
+
+        // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
+        jdbcTemplate.execute("DELETE FROM seats");
+        jdbcTemplate.execute("DELETE FROM blocks");
+        jdbcTemplate.execute("DELETE FROM sections");
+        jdbcTemplate.execute("DELETE FROM areas");
+        jdbcTemplate.execute("DELETE FROM matches");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        for (int i = 1; i <= USER_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)",
+                    i, "user" + i + "@test.com", "password", "USER");
+        }
+
+        matchId = jdbcTemplate.queryForObject("""
+                INSERT INTO matches (stadium, home_team, away_team, date_time, status)
+                VALUES ('Test Stadium', 'Home Team', 'Away Team', NOW(), 'OPEN') RETURNING id
+                """, Long.class);
+        Long areaId = jdbcTemplate.queryForObject(
+                "INSERT INTO areas (name) VALUES ('Test Area') RETURNING id", Long.class);
+        Long sectionId = jdbcTemplate.queryForObject(
+                "INSERT INTO sections (area_id, name) VALUES (?, 'Test Section') RETURNING id", Long.class, areaId);
+        Long blockId = jdbcTemplate.queryForObject(
+                "INSERT INTO blocks (section_id, name) VALUES (?, 'Test Block') RETURNING id", Long.class, sectionId);
+
+        seatIds = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= SEAT_COUNT; seatNumber++) {
+            Long seatId = jdbcTemplate.queryForObject(
+                    "INSERT INTO seats (block_id, row_number, seat_number) VALUES (?, 1, ?) RETURNING id",
+                    Long.class, blockId, seatNumber);
+            jdbcTemplate.update("""
+                    INSERT INTO allocations (match_id, block_id, seat_id, status, updated_at)
+                    VALUES (?, ?, ?, 'AVAILABLE', NOW())
+                    """, matchId, blockId, seatId);
+            seatIds.add(seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("When many users hold the same seat at once, exactly one wins")
+    void concurrentSingleSeatHold_onlyOneSucceeds() throws InterruptedException {
+        // Given
+        Long seatId = seatIds.get(0);
+        RaceResult result = new RaceResult();
+
+        // When
+        race(result, userId -> allocateSeatUseCase.allocateSeat(new AllocateSeatCommand(userId, matchId, seatId)));
+
+        // Then
+        assertThat(result.unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(result.successCount.get())
+                .as("Exactly one user should hold the seat")
+                .isEqualTo(1);
+        assertThat(result.failCount.get()).isEqualTo(USER_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("Batch holds over the same seats in opposite orders do not deadlock and exactly one wins")
+    void concurrentBatchHold_oppositeOrders_onlyOneSucceedsWithoutDeadlock() throws InterruptedException {
+        // Given
+        List<Long> ascending = List.copyOf(seatIds);
+        List<Long> descending = new ArrayList<>(seatIds);
+        Collections.reverse(descending);
+        RaceResult result = new RaceResult();
+
+        // When - 교착 상태면 race 가 시간 안에 끝나지 않음
+        race(result, userId -> holdSeatsUseCase.holdSeats(
+                new HoldSeatsCommand(userId, matchId, userId % 2 == 0 ? ascending : descending)));
+
+        // Then
+        assertThat(result.unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(result.successCount.get())
+                .as("Exactly one user should hold every seat")
+                .isEqualTo(1);
+
+        List<Allocation> allocations = allocationAdapter.loadAllocationsByMatchAndSeatsWithLock(matchId, seatIds);
+        assertThat(allocations)
+                .extracting(Allocation::getUserId)
+                .as("Every seat should belong to the same winner")
+                .containsOnly(allocations.get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("A rolled back transaction leaves no staged change behind and releases its seat locks")
+    void rolledBackTransaction_discardsStagedChange() {
+        // Given
+        Long seatId = seatIds.get(0);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            Allocation allocation = allocationAdapter.loadAllocationByMatchAndSeatWithLock(matchId, seatId)
+                    .orElseThrow();
+            allocationAdapter.recordAllocation(allocation.hold(1L, matchId, LocalDateTime.now().plusMinutes(10)));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        Allocation allocation = allocationAdapter.loadAllocationByMatchAndSeatWithLock(matchId, seatId).orElseThrow();
+        assertThat(allocation.getState())
+                .as("The staged hold should not be applied after rollback")
+                .isEqualTo(AllocationState.AVAILABLE);
+
+        allocateSeatUseCase.allocateSeat(new AllocateSeatCommand(2L, matchId, seatId));
+        assertThat(allocationAdapter.loadAllocationByMatchAndSeatWithLock(matchId, seatId).orElseThrow().getUserId())
+                .as("The seat lock should be released so another user can hold it")
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Committed holds reach the database after a write-behind flush")
+    void committedHolds_areFlushedToDatabase() {
+        // Given
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, seatIds));
+
+        // When
+        allocationAdapter.flushWriteBehind();
+
+        // Then
+        Integer heldCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE match_id = ? AND status = 'HOLD' AND user_id = 1",
+                Integer.class, matchId);
+        assertThat(heldCount)
+                .as("Every held seat should be persisted")
+                .isEqualTo(SEAT_COUNT);
+    }
+
+    @Test
+    @DisplayName("Seats assigned to a reservation are found by reservation id")
+    void reservedSeats_areFoundByReservationId() {
+        // Given
+        List<Long> reservedSeatIds = seatIds.subList(0, 2);
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, reservedSeatIds));
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(2L, matchId, seatIds.subList(2, SEAT_COUNT)));
+
+        // When
+        createReservationUseCase.createReservation(new CreateReservationCommand(1L, matchId, reservedSeatIds));
+        Long reservationId = jdbcTemplate.queryForObject(
+                "SELECT id FROM reservations WHERE user_id = 1", Long.class);
+
+        // Then
+        assertThat(allocationAdapter.loadAllocationsByReservationId(reservationId))
+                .extracting(Allocation::getSeatId)
+                .as("Only the reserved seats should be returned, in seat id order")
+                .containsExactlyElementsOf(reservedSeatIds);
+    }
+
+    /**
+     * 모든 사용자가 동시에 action 을 실행하고, 좌석 점유 실패는 실패 횟수로 집계
+     */
+    private void race(final RaceResult result, final UserAction action) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(USER_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+
+        for (int i = 1; i <= USER_COUNT; i++) {
+            long userId = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    action.run(userId);
+                    result.successCount.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    result.failCount.incrementAndGet();
+                } catch (Exception e) {
+                    result.unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(endLatch.await(10, TimeUnit.SECONDS))
+                .as("Every request should finish without deadlock")
+                .isTrue();
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface UserAction {
+        void run(Long userId);
+    }
+
+    private static class RaceResult {
+        private final AtomicInteger successCount = new AtomicInteger(0);
+        private final AtomicInteger failCount = new AtomicInteger(0);
+        private final AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,444 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.payment.application.port.in.ConfirmPaymentCommand;
+import dev.ticketing.core.payment.application.port.in.ConfirmPaymentUseCase;
+import dev.ticketing.core.payment.application.port.in.RecoverPaymentUseCase;
+import dev.ticketing.core.payment.application.port.out.gateway.PaymentGatewayPort;
+import dev.ticketing.core.payment.application.service.exception.InvalidPaymentStateException;
+import dev.ticketing.core.payment.domain.PaymentApprovalStatus;
+import dev.ticketing.core.reservation.application.service.exception.ReservationSeatsLostException;
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Payment Confirm Concurrency Tests")
+class PaymentConfirmConcurrencyTest {
+
+    private static final int SEAT_COUNT = 6;
+    private static final int USER_COUNT = 3;
+    private static final String LIVE = "NOW() + INTERVAL '10 minutes'";
+    private static final String EXPIRED = "NOW() - INTERVAL '1 minute'";
+
+    @Autowired
+    private ConfirmPaymentUseCase confirmPaymentUseCase;
+
+    @Autowired
+    private RecoverPaymentUseCase recoverPaymentUseCase;
+
+    @Autowired
+    private ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase;
+
+    @Autowired
+    private PaymentGatewayPort paymentGatewayPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
+        jdbcTemplate.execute("DELETE FROM seats");
+        jdbcTemplate.execute("DELETE FROM blocks");
+        jdbcTemplate.execute("DELETE FROM sections");
+        jdbcTemplate.execute("DELETE FROM areas");
+        jdbcTemplate.execute("DELETE FROM matches");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        for (int i = 1; i <= USER_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)",
+                    i, "user" + i + "@test.com", "password", "USER");
+        }
+
+        matchId = jdbcTemplate.queryForObject("""
+                INSERT INTO matches (stadium, home_team, away_team, date_time, status)
+                VALUES ('Test Stadium', 'Home Team', 'Away Team', NOW(), 'OPEN') RETURNING id
+                """, Long.class);
+        Long areaId = jdbcTemplate.queryForObject(
+                "INSERT INTO areas (name) VALUES ('Test Area') RETURNING id", Long.class);
+        Long sectionId = jdbcTemplate.queryForObject(
+                "INSERT INTO sections (area_id, name) VALUES (?, 'Test Section') RETURNING id", Long.class, areaId);
+        Long blockId = jdbcTemplate.queryForObject(
+                "INSERT INTO blocks (section_id, name) VALUES (?, 'Test Block') RETURNING id", Long.class, sectionId);
+
+        seatIds = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= SEAT_COUNT; seatNumber++) {
+            Long seatId = jdbcTemplate.queryForObject(
+                    "INSERT INTO seats (block_id, row_number, seat_number) VALUES (?, 1, ?) RETURNING id",
+                    Long.class, blockId, seatNumber);
+            jdbcTemplate.update("""
+                    INSERT INTO allocations (match_id, block_id, seat_id, status, updated_at)
+                    VALUES (?, ?, ?, 'AVAILABLE', NOW())
+                    """, matchId, blockId, seatId);
+            seatIds.add(seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("The reaper leaves expired holds alone while their reservation's payment is in progress")
+    void reaper_skipsHoldsOfPaymentInProgress() {
+        // Given - user 1's payment is in progress (approval unknown, so background recovery leaves it alone)
+        Long reservationId = createReservation(1L, seatIds.subList(0, 2), EXPIRED);
+        createPayment(reservationId, "IN_PROGRESS", null);
+        // user 2 has a plain expired hold without a payment
+        holdSeat(2L, seatIds.get(2), null, EXPIRED);
+
+        // When
+        int released = releaseExpiredSeatsUseCase.releaseExpiredSeats(100);
+
+        // Then
+        assertThat(released)
+                .as("Only the hold without a payment in progress should be released")
+                .isLessThanOrEqualTo(1);
+        assertThat(statusOf(seatIds.get(2))).isEqualTo("AVAILABLE");
+        assertThat(countSeats(reservationId, "HOLD"))
+                .as("Seats of a payment in progress should stay held for the reservation")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When reapers race payment recovery, the payment is finalized with every seat")
+    void reaperRacingRecovery_finalizesWithAllSeats() throws InterruptedException {
+        // Given - the process crashed after the PG approved, and the holds have since expired
+        Long reservationId = createReservation(1L, seatIds.subList(0, 3), EXPIRED);
+        Long paymentId = createPayment(reservationId, "IN_PROGRESS", sendToGateway("approved-"));
+        int reaperCount = 3;
+
+        AtomicInteger recoveredCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(reaperCount + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(reaperCount + 1);
+
+        // When
+        for (int i = 0; i < reaperCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int round = 0; round < 20; round++) {
+                        releaseExpiredSeatsUseCase.releaseExpiredSeats(10);
+                    }
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                recoveredCount.addAndGet(recoverPaymentUseCase.recoverInProgressPayments(LocalDateTime.now()));
+            } catch (Exception e) {
+                unexpectedException.compareAndSet(null, e);
+            } finally {
+                endLatch.countDown();
+            }
+        });
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then - the background scheduler may have recovered it first
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(recoveredCount.get()).isLessThanOrEqualTo(1);
+        assertThat(paymentStatusOf(paymentId)).isEqualTo("PAID");
+        assertThat(reservationStatusOf(reservationId)).isEqualTo("CONFIRMED");
+        assertThat(countSeats(reservationId, "OCCUPIED"))
+                .as("Every seat of the reservation should be occupied")
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("When a seat was taken by another user, recovery cancels the approval and occupies nothing")
+    void recovery_seatTakenByAnotherUser_cancelsApproval() {
+        // Given - user 1 reserved two seats, but one of them is now held by user 2
+        Long reservationId = createReservation(1L, seatIds.subList(0, 2), LIVE);
+        jdbcTemplate.update("""
+                UPDATE allocations SET user_id = 2, reservation_id = NULL
+                WHERE match_id = ? AND seat_id = ?
+                """, matchId, seatIds.get(1));
+        String paymentKey = sendToGateway("approved-");
+        Long paymentId = createPayment(reservationId, "IN_PROGRESS", paymentKey);
+
+        // When
+        recoverPaymentUseCase.recoverInProgressPayments(LocalDateTime.now());
+
+        // Then
+        assertThat(paymentStatusOf(paymentId))
+                .as("The approved payment should be cancelled at the gateway")
+                .isEqualTo("REFUNDED");
+        assertThat(paymentGatewayPort.loadPaymentApprovalStatus(paymentKey))
+                .isEqualTo(PaymentApprovalStatus.DECLINED);
+        assertThat(reservationStatusOf(reservationId)).isEqualTo("PENDING");
+        assertThat(countByStatus("OCCUPIED"))
+                .as("The partial occupation should be rolled back")
+                .isZero();
+        assertThat(statusOf(seatIds.get(1))).isEqualTo("HOLD");
+        assertThat(holderOf(seatIds.get(1))).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Payments left in progress by a crash are finalized from the PG approval status")
+    void recovery_afterCrashBetweenPhases_followsApprovalStatus() {
+        // Given - three payments stuck in progress: approved, declined and never sent to the gateway
+        Long approvedReservationId = createReservation(1L, seatIds.subList(0, 2), LIVE);
+        Long approvedPaymentId = createPayment(approvedReservationId, "IN_PROGRESS", sendToGateway("approved-"));
+        Long declinedReservationId = createReservation(2L, seatIds.subList(2, 4), LIVE);
+        Long declinedPaymentId = createPayment(declinedReservationId, "IN_PROGRESS", sendToGateway("fail-"));
+        Long unknownReservationId = createReservation(3L, seatIds.subList(4, 6), LIVE);
+        Long unknownPaymentId = createPayment(unknownReservationId, "IN_PROGRESS", "unsent-" + UUID.randomUUID());
+
+        // When
+        int recovered = recoverPaymentUseCase.recoverInProgressPayments(LocalDateTime.now());
+
+        // Then
+        assertThat(recovered)
+                .as("Only payments with a known approval status should be finalized")
+                .isLessThanOrEqualTo(2);
+
+        assertThat(paymentStatusOf(approvedPaymentId)).isEqualTo("PAID");
+        assertThat(reservationStatusOf(approvedReservationId)).isEqualTo("CONFIRMED");
+        assertThat(countSeats(approvedReservationId, "OCCUPIED")).isEqualTo(2);
+
+        assertThat(paymentStatusOf(declinedPaymentId)).isEqualTo("FAILED");
+        assertThat(reservationStatusOf(declinedReservationId)).isEqualTo("PENDING");
+        assertThat(countSeats(declinedReservationId, "HOLD")).isEqualTo(2);
+
+        assertThat(paymentStatusOf(unknownPaymentId))
+                .as("A payment the gateway never received must not be settled as approved")
+                .isEqualTo("IN_PROGRESS");
+        assertThat(reservationStatusOf(unknownReservationId)).isEqualTo("PENDING");
+        assertThat(countSeats(unknownReservationId, "HOLD")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When the same payment is confirmed concurrently, exactly one request pays")
+    void concurrentConfirm_samePayment_onlyOnePays() throws InterruptedException {
+        // Given
+        Long reservationId = createReservation(1L, seatIds.subList(0, 2), LIVE);
+        Long paymentId = createPayment(reservationId, "PENDING", null);
+        int requestCount = 5;
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger conflictCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            ConfirmPaymentCommand command = new ConfirmPaymentCommand(paymentId, "key-" + i, "order-" + paymentId, 15000);
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    confirmPaymentUseCase.confirmPayment(command);
+                    successCount.incrementAndGet();
+                } catch (InvalidPaymentStateException e) {
+                    conflictCount.incrementAndGet();
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(successCount.get())
+                .as("Exactly one confirm should pass the PENDING -> IN_PROGRESS transition")
+                .isEqualTo(1);
+        assertThat(conflictCount.get()).isEqualTo(requestCount - 1);
+        assertThat(paymentStatusOf(paymentId)).isEqualTo("PAID");
+        assertThat(reservationStatusOf(reservationId)).isEqualTo("CONFIRMED");
+        assertThat(countSeats(reservationId, "OCCUPIED")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A declined confirm restores the hold expiry it extended for the gateway call")
+    void confirm_declined_restoresHoldExpiry() {
+        // Given - the holds expire in a minute, shorter than the extension during the gateway call
+        Long reservationId = createReservation(1L, seatIds.subList(0, 2), "NOW() + INTERVAL '1 minute'");
+        Long paymentId = createPayment(reservationId, "PENDING", null);
+
+        // When
+        confirmPaymentUseCase.confirmPayment(
+                new ConfirmPaymentCommand(paymentId, "fail-" + UUID.randomUUID(), "order-" + paymentId, 15000));
+
+        // Then
+        assertThat(paymentStatusOf(paymentId)).isEqualTo("FAILED");
+        Integer restoredCount = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM allocations
+                WHERE reservation_id = ? AND status = 'HOLD' AND hold_expires_at <= NOW() + INTERVAL '1 minute'
+                """, Integer.class, reservationId);
+        assertThat(restoredCount)
+                .as("Every hold should be back to its original expiry")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When a confirm races the reaper over expired holds, the payment never pays for lost seats")
+    void confirmRacingReaper_expiredHolds_rejectsBeforeGateway() throws InterruptedException {
+        // Given - the holds expired before the user confirmed the payment
+        Long reservationId = createReservation(1L, seatIds.subList(0, 3), EXPIRED);
+        Long paymentId = createPayment(reservationId, "PENDING", null);
+
+        AtomicReference<Exception> confirmFailure = new AtomicReference<>();
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                releaseExpiredSeatsUseCase.releaseExpiredSeats(10);
+            } catch (Exception e) {
+                unexpectedException.compareAndSet(null, e);
+            } finally {
+                endLatch.countDown();
+            }
+        });
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                confirmPaymentUseCase.confirmPayment(
+                        new ConfirmPaymentCommand(paymentId, "approved-key", "order-" + paymentId, 15000));
+            } catch (ReservationSeatsLostException e) {
+                confirmFailure.set(e);
+            } catch (Exception e) {
+                unexpectedException.compareAndSet(null, e);
+            } finally {
+                endLatch.countDown();
+            }
+        });
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(confirmFailure.get())
+                .as("Expired holds cannot be extended, so the confirm should be rejected")
+                .isNotNull();
+        assertThat(paymentStatusOf(paymentId))
+                .as("The rejected confirm should roll back to PENDING")
+                .isEqualTo("PENDING");
+        assertThat(countByStatus("OCCUPIED")).isZero();
+    }
+
+    /**
+     * 사용자가 좌석을 점유하고 예약까지 마친 상태 (좌석 수 기록 포함)
+     */
+    private Long createReservation(Long userId, List<Long> reservedSeatIds, String holdExpiresAt) {
+        Long reservationId = jdbcTemplate.queryForObject("""
+                INSERT INTO reservations (user_id, match_id, status, seat_count)
+                VALUES (?, ?, 'PENDING', ?) RETURNING id
+                """, Long.class, userId, matchId, reservedSeatIds.size());
+        for (Long seatId : reservedSeatIds) {
+            holdSeat(userId, seatId, reservationId, holdExpiresAt);
+        }
+        return reservationId;
+    }
+
+    private void holdSeat(Long userId, Long seatId, Long reservationId, String holdExpiresAt) {
+        jdbcTemplate.update("UPDATE allocations SET status = 'HOLD', user_id = ?, reservation_id = ?, hold_expires_at = "
+                + holdExpiresAt + " WHERE match_id = ? AND seat_id = ?", userId, reservationId, matchId, seatId);
+    }
+
+    /**
+     * 승인 요청 시각은 복구 대상이 되도록 과거로 기록
+     */
+    private Long createPayment(Long reservationId, String status, String paymentKey) {
+        LocalDateTime confirmRequestedAt = "IN_PROGRESS".equals(status) ? LocalDateTime.now().minusMinutes(2) : null;
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO payments (reservation_id, amount, method, status, payment_gateway_provider,
+                                      payment_transaction_id, created_at, confirm_requested_at)
+                VALUES (?, 15000, 'CARD', ?, 'TOSS_PAYMENTS', ?, NOW(), ?) RETURNING id
+                """, Long.class, reservationId, status, paymentKey, confirmRequestedAt);
+    }
+
+    /**
+     * PG 가 승인 요청을 받아 결과를 기록한 결제 키 ("fail" 이 포함된 키는 거절)
+     */
+    private String sendToGateway(String keyPrefix) {
+        String paymentKey = keyPrefix + UUID.randomUUID();
+        paymentGatewayPort.executePayment(paymentKey, "order-" + paymentKey, 15000);
+        return paymentKey;
+    }
+
+    private String statusOf(Long seatId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM allocations WHERE match_id = ? AND seat_id = ?",
+                String.class, matchId, seatId);
+    }
+
+    private Long holderOf(Long seatId) {
+        return jdbcTemplate.queryForObject("SELECT user_id FROM allocations WHERE match_id = ? AND seat_id = ?",
+                Long.class, matchId, seatId);
+    }
+
+    private int countSeats(Long reservationId, String status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE reservation_id = ? AND status = ?",
+                Integer.class, reservationId, status);
+    }
+
+    private int countByStatus(String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM allocations WHERE match_id = ? AND status = ?",
+                Integer.class, matchId, status);
+    }
+
+    private String paymentStatusOf(Long paymentId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM payments WHERE id = ?", String.class, paymentId);
+    }
+
+    private String reservationStatusOf(Long reservationId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM reservations WHERE id = ?", String.class,
+                reservationId);
+    }
+}
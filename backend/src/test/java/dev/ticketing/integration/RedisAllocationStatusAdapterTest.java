@@ -0,0 +1,152 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.site.application.port.out.persistence.allocation.status.UpdateAllocationStatusPort;
+import dev.ticketing.core.site.domain.allocation.AllocationHoldResult;
+import dev.ticketing.core.site.domain.allocation.AllocationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Redis Allocation Status Adapter Tests")
+class RedisAllocationStatusAdapterTest {
+
+    private static final Duration HOLD_TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private UpdateAllocationStatusPort updateAllocationStatusPort;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long matchId;
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        // Use a fresh match per test so keys never collide between tests
+        matchId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        seatId = 1L;
+    }
+
+    @Test
+    @DisplayName("Holding an available seat succeeds and sets the TTL on both keys")
+    void hold_succeedsAndSetsTtl() {
+        // When
+        AllocationHoldResult result = updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, HOLD_TTL);
+
+        // Then
+        assertThat(result).isEqualTo(AllocationHoldResult.HELD);
+        assertThat(redisTemplate.opsForValue().get(statusKey())).isEqualTo(AllocationState.HOLD.name());
+        assertThat(redisTemplate.opsForValue().get(ownerKey())).isEqualTo("1");
+        assertThat(redisTemplate.getExpire(statusKey(), TimeUnit.MILLISECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(HOLD_TTL.toMillis());
+        assertThat(redisTemplate.getExpire(ownerKey(), TimeUnit.MILLISECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(HOLD_TTL.toMillis());
+    }
+
+    @Test
+    @DisplayName("A second user's hold on a held seat returns HELD_BY_OTHER, the owner's returns ALREADY_HELD_BY_USER")
+    void hold_byAnotherUser_isRejected() {
+        // Given
+        updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, HOLD_TTL);
+
+        // When
+        AllocationHoldResult other = updateAllocationStatusPort.holdAllocationStatusAtomic(2L, matchId, seatId, HOLD_TTL);
+        AllocationHoldResult same = updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, HOLD_TTL);
+
+        // Then
+        assertThat(other).isEqualTo(AllocationHoldResult.HELD_BY_OTHER);
+        assertThat(same).isEqualTo(AllocationHoldResult.ALREADY_HELD_BY_USER);
+        assertThat(redisTemplate.opsForValue().get(ownerKey())).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Only the owner can release a held seat")
+    void release_byNonOwner_isRefused() {
+        // Given
+        updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, HOLD_TTL);
+
+        // When
+        boolean releasedByOther = updateAllocationStatusPort.releaseAllocationStatusAtomic(2L, matchId, seatId);
+
+        // Then
+        assertThat(releasedByOther).isFalse();
+        assertThat(redisTemplate.opsForValue().get(statusKey())).isEqualTo(AllocationState.HOLD.name());
+
+        // When
+        boolean releasedByOwner = updateAllocationStatusPort.releaseAllocationStatusAtomic(1L, matchId, seatId);
+
+        // Then
+        assertThat(releasedByOwner).isTrue();
+        assertThat(redisTemplate.hasKey(statusKey())).isFalse();
+        assertThat(redisTemplate.hasKey(ownerKey())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Compare-and-set with a stale expected status fails and leaves the seat untouched")
+    void compareAndSet_withStaleExpectedStatus_fails() {
+        // Given
+        updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, HOLD_TTL);
+
+        // When
+        boolean staleUpdated = updateAllocationStatusPort.updateAllocationStatusAtomic(
+                matchId, seatId, AllocationState.AVAILABLE, AllocationState.OCCUPIED);
+
+        // Then
+        assertThat(staleUpdated).isFalse();
+        assertThat(redisTemplate.opsForValue().get(statusKey())).isEqualTo(AllocationState.HOLD.name());
+
+        // When
+        boolean updated = updateAllocationStatusPort.updateAllocationStatusAtomic(
+                matchId, seatId, AllocationState.HOLD, AllocationState.OCCUPIED);
+
+        // Then - OCCUPIED is permanent and blocks further holds
+        assertThat(updated).isTrue();
+        assertThat(redisTemplate.opsForValue().get(statusKey())).isEqualTo(AllocationState.OCCUPIED.name());
+        assertThat(redisTemplate.getExpire(statusKey(), TimeUnit.MILLISECONDS)).isEqualTo(-1L);
+        assertThat(updateAllocationStatusPort.holdAllocationStatusAtomic(2L, matchId, seatId, HOLD_TTL))
+                .isEqualTo(AllocationHoldResult.OCCUPIED);
+    }
+
+    @Test
+    @DisplayName("A hold disappears once its TTL expires and the seat can be held again")
+    void hold_expiresAfterTtl() {
+        // Given
+        updateAllocationStatusPort.holdAllocationStatusAtomic(1L, matchId, seatId, Duration.ofMillis(300));
+
+        // When - wait for the TTL to expire
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !Boolean.TRUE.equals(redisTemplate.hasKey(statusKey())));
+
+        // Then
+        assertThat(redisTemplate.hasKey(ownerKey())).isFalse();
+        assertThat(updateAllocationStatusPort.holdAllocationStatusAtomic(2L, matchId, seatId, HOLD_TTL))
+                .isEqualTo(AllocationHoldResult.HELD);
+    }
+
+    private String statusKey() {
+        return "seat:status:{" + matchId + ":" + seatId + "}";
+    }
+
+    private String ownerKey() {
+        return "seat:owner:{" + matchId + ":" + seatId + "}";
+    }
+}
@@ -0,0 +1,203 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.reservation.application.port.in.CreateReservationCommand;
+import dev.ticketing.core.reservation.application.port.in.CreateReservationUseCase;
+import dev.ticketing.core.reservation.application.service.exception.ReservationException;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
+import dev.ticketing.core.site.application.service.exception.SeatAlreadyHeldException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Reservation Creation Concurrency Tests")
+class ReservationCreationConcurrencyTest {
+
+    private static final int USER_COUNT = 5;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private CreateReservationUseCase createReservationUseCase;
+
+    @Autowired
+    private HoldSeatsUseCase holdSeatsUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
+        jdbcTemplate.execute("DELETE FROM seats");
+        jdbcTemplate.execute("DELETE FROM blocks");
+        jdbcTemplate.execute("DELETE FROM sections");
+        jdbcTemplate.execute("DELETE FROM areas");
+        jdbcTemplate.execute("DELETE FROM matches");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        for (int i = 1; i <= USER_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)",
+                    i, "user" + i + "@test.com", "password", "USER");
+        }
+
+        matchId = jdbcTemplate.queryForObject("""
+                INSERT INTO matches (stadium, home_team, away_team, date_time, status)
+                VALUES ('Test Stadium', 'Home Team', 'Away Team', NOW(), 'OPEN') RETURNING id
+                """, Long.class);
+        Long areaId = jdbcTemplate.queryForObject(
+                "INSERT INTO areas (name) VALUES ('Test Area') RETURNING id", Long.class);
+        Long sectionId = jdbcTemplate.queryForObject(
+                "INSERT INTO sections (area_id, name) VALUES (?, 'Test Section') RETURNING id", Long.class, areaId);
+        Long blockId = jdbcTemplate.queryForObject(
+                "INSERT INTO blocks (section_id, name) VALUES (?, 'Test Block') RETURNING id", Long.class, sectionId);
+
+        // Three seats held by the owner
+        seatIds = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= 3; seatNumber++) {
+            Long seatId = jdbcTemplate.queryForObject(
+                    "INSERT INTO seats (block_id, row_number, seat_number) VALUES (?, 1, ?) RETURNING id",
+                    Long.class, blockId, seatNumber);
+            jdbcTemplate.update("""
+                    INSERT INTO allocations (match_id, block_id, seat_id, user_id, status, hold_expires_at, updated_at)
+                    VALUES (?, ?, ?, ?, 'HOLD', NOW() + INTERVAL '10 minutes', NOW())
+                    """, matchId, blockId, seatId, OWNER_ID);
+            seatIds.add(seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("When others try to hold seats while the owner reserves them, the reservation gets every seat")
+    void reserveWhileOthersHold_liveHold_reservationWins() throws InterruptedException {
+        // When
+        RaceResult result = raceReservationAgainstHolds();
+
+        // Then
+        assertThat(result.unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(result.reservationFailure.get())
+                .as("The owner's live hold should be reservable")
+                .isNull();
+        assertThat(result.holdSuccessCount.get())
+                .as("Nobody should take over a live hold")
+                .isZero();
+
+        Integer reservedCount = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM allocations
+                WHERE match_id = ? AND status = 'HOLD' AND user_id = ? AND reservation_id IS NOT NULL
+                """, Integer.class, matchId, OWNER_ID);
+        assertThat(reservedCount)
+                .as("Every seat should carry the reservation id")
+                .isEqualTo(seatIds.size());
+    }
+
+    @Test
+    @DisplayName("When others take over expired holds while the owner reserves them, the reservation rolls back entirely")
+    void reserveWhileOthersHold_expiredHold_reservationRollsBack() throws InterruptedException {
+        // Given - the owner's holds have expired
+        jdbcTemplate.update("UPDATE allocations SET hold_expires_at = NOW() - INTERVAL '1 minute' WHERE match_id = ?",
+                matchId);
+
+        // When
+        RaceResult result = raceReservationAgainstHolds();
+
+        // Then
+        assertThat(result.unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(result.reservationFailure.get())
+                .as("An expired hold should not be reservable")
+                .isInstanceOf(ReservationException.class);
+        assertThat(result.holdSuccessCount.get())
+                .as("Exactly one other user should take over the seats")
+                .isEqualTo(1);
+
+        Integer reservationCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class);
+        assertThat(reservationCount)
+                .as("The failed reservation should be rolled back")
+                .isZero();
+        Integer assignedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE match_id = ? AND reservation_id IS NOT NULL",
+                Integer.class, matchId);
+        assertThat(assignedCount)
+                .as("No seat should be left pointing at a rolled back reservation")
+                .isZero();
+    }
+
+    /**
+     * 소유자의 예약 생성과 다른 사용자들의 동일 좌석 일괄 점유를 동시에 시작
+     */
+    private RaceResult raceReservationAgainstHolds() throws InterruptedException {
+        RaceResult result = new RaceResult();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(USER_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                createReservationUseCase.createReservation(new CreateReservationCommand(OWNER_ID, matchId, seatIds));
+            } catch (ReservationException e) {
+                result.reservationFailure.set(e);
+            } catch (Exception e) {
+                result.unexpectedException.compareAndSet(null, e);
+            } finally {
+                endLatch.countDown();
+            }
+        });
+
+        for (int i = 2; i <= USER_COUNT; i++) {
+            HoldSeatsCommand command = new HoldSeatsCommand((long) i, matchId, seatIds);
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    holdSeatsUseCase.holdSeats(command);
+                    result.holdSuccessCount.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    // expected for losers
+                } catch (Exception e) {
+                    result.unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+        return result;
+    }
+
+    private static class RaceResult {
+        private final AtomicInteger holdSuccessCount = new AtomicInteger(0);
+        private final AtomicReference<Exception> reservationFailure = new AtomicReference<>();
+        private final AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+    }
+}
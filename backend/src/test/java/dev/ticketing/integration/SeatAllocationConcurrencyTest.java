@@ -39,7 +39,9 @@ class SeatAllocationConcurrencyTest {
     @BeforeEach
     void setUp() {
         // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
         jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
         jdbcTemplate.execute("DELETE FROM seats");
         jdbcTemplate.execute("DELETE FROM blocks");
         jdbcTemplate.execute("DELETE FROM sections");
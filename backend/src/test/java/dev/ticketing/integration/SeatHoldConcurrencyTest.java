@@ -0,0 +1,471 @@
+package dev.ticketing.integration;
+
+import dev.ticketing.configuration.TestContainerConfiguration;
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.AssignSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.ConfirmSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.ConfirmSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsCommand;
+import dev.ticketing.core.site.application.port.in.allocation.HoldSeatsUseCase;
+import dev.ticketing.core.site.application.port.in.allocation.ReleaseExpiredSeatsUseCase;
+import dev.ticketing.core.site.application.service.exception.NoAdjacentSeatsAvailableException;
+import dev.ticketing.core.site.application.service.exception.NoSeatsToConfirmException;
+import dev.ticketing.core.site.application.service.exception.SeatAlreadyHeldException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Seat Hold Concurrency Tests")
+class SeatHoldConcurrencyTest {
+
+    private static final int SEAT_COUNT = 10;
+    private static final int USER_COUNT = 10;
+
+    @Autowired
+    private HoldSeatsUseCase holdSeatsUseCase;
+
+    @Autowired
+    private AssignSeatsUseCase assignSeatsUseCase;
+
+    @Autowired
+    private ConfirmSeatsUseCase confirmSeatsUseCase;
+
+    @Autowired
+    private ReleaseExpiredSeatsUseCase releaseExpiredSeatsUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+    private Long blockId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up existing data (order matters due to FK constraints)
+        jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM allocations");
+        jdbcTemplate.execute("DELETE FROM reservations");
+        jdbcTemplate.execute("DELETE FROM seats");
+        jdbcTemplate.execute("DELETE FROM blocks");
+        jdbcTemplate.execute("DELETE FROM sections");
+        jdbcTemplate.execute("DELETE FROM areas");
+        jdbcTemplate.execute("DELETE FROM matches");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        for (int i = 1; i <= USER_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)",
+                    i, "user" + i + "@test.com", "password", "USER");
+        }
+
+        matchId = jdbcTemplate.queryForObject("""
+                INSERT INTO matches (stadium, home_team, away_team, date_time, status)
+                VALUES ('Test Stadium', 'Home Team', 'Away Team', NOW(), 'OPEN') RETURNING id
+                """, Long.class);
+        Long areaId = jdbcTemplate.queryForObject(
+                "INSERT INTO areas (name) VALUES ('Test Area') RETURNING id", Long.class);
+        Long sectionId = jdbcTemplate.queryForObject(
+                "INSERT INTO sections (area_id, name) VALUES (?, 'Test Section') RETURNING id", Long.class, areaId);
+        blockId = jdbcTemplate.queryForObject(
+                "INSERT INTO blocks (section_id, name) VALUES (?, 'Test Block') RETURNING id", Long.class, sectionId);
+
+        // One row of adjacent seats, all AVAILABLE (simulating MatchService.openMatch() behavior)
+        seatIds = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= SEAT_COUNT; seatNumber++) {
+            Long seatId = jdbcTemplate.queryForObject(
+                    "INSERT INTO seats (block_id, row_number, seat_number) VALUES (?, 1, ?) RETURNING id",
+                    Long.class, blockId, seatNumber);
+            jdbcTemplate.update("""
+                    INSERT INTO allocations (match_id, block_id, seat_id, status, updated_at)
+                    VALUES (?, ?, ?, 'AVAILABLE', NOW())
+                    """, matchId, blockId, seatId);
+            seatIds.add(seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("When users batch-hold the same seats in different orders, exactly one gets all of them")
+    void concurrentBatchHold_sameSeats_onlyOneSucceeds() throws InterruptedException {
+        // Given
+        List<Long> requestedSeatIds = seatIds.subList(0, 3);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger conflictCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(USER_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+
+        // When - every user requests the same seats, each in its own order
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long userId = (long) (i + 1);
+            List<Long> shuffled = new ArrayList<>(requestedSeatIds);
+            Collections.shuffle(shuffled);
+            HoldSeatsCommand command = new HoldSeatsCommand(userId, matchId, shuffled);
+
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    holdSeatsUseCase.holdSeats(command);
+                    successCount.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    conflictCount.incrementAndGet();
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(successCount.get())
+                .as("Exactly one user should hold the seats")
+                .isEqualTo(1);
+        assertThat(conflictCount.get())
+                .as("All other users should receive a conflict error")
+                .isEqualTo(USER_COUNT - 1);
+
+        List<Long> holders = jdbcTemplate.queryForList("""
+                SELECT DISTINCT user_id FROM allocations
+                WHERE match_id = ? AND status = 'HOLD'
+                """, Long.class, matchId);
+        assertThat(holders)
+                .as("All held seats should belong to the single winner")
+                .hasSize(1);
+        assertThat(countHeldSeats())
+                .as("The winner should hold every requested seat")
+                .isEqualTo(requestedSeatIds.size());
+    }
+
+    @Test
+    @DisplayName("When batch holds overlap pairwise, no user is left holding only part of a request")
+    void concurrentBatchHold_overlappingSeats_neverPartiallyHolds() throws InterruptedException {
+        // Given - user i requests seats i and i+1, so each request overlaps its neighbours
+        int requestCount = SEAT_COUNT - 1;
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            Long userId = (long) (i + 1);
+            HoldSeatsCommand command = new HoldSeatsCommand(userId, matchId,
+                    List.of(seatIds.get(i + 1), seatIds.get(i)));
+
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    holdSeatsUseCase.holdSeats(command);
+                    successCount.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    // expected for losers
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(successCount.get())
+                .as("At least one request should succeed")
+                .isPositive();
+        assertThat(countHeldSeats())
+                .as("Every successful request holds exactly its two seats")
+                .isEqualTo(successCount.get() * 2);
+
+        List<Integer> heldPerUser = jdbcTemplate.queryForList("""
+                SELECT COUNT(*)::int FROM allocations
+                WHERE match_id = ? AND status = 'HOLD'
+                GROUP BY user_id
+                """, Integer.class, matchId);
+        assertThat(heldPerUser)
+                .as("No user should be left with a partial hold")
+                .allMatch(count -> count == 2);
+    }
+
+    @Test
+    @DisplayName("When users race to take over an expired hold, exactly one of them gets the seat")
+    void concurrentHold_expiredHold_onlyOneTakesOver() throws InterruptedException {
+        // Given - user 1 held the seat, but the hold has expired
+        Long seatId = seatIds.get(0);
+        jdbcTemplate.update("""
+                UPDATE allocations SET status = 'HOLD', user_id = 1, hold_expires_at = NOW() - INTERVAL '1 minute'
+                WHERE match_id = ? AND seat_id = ?
+                """, matchId, seatId);
+        int requestCount = USER_COUNT - 1;
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        // When - users 2..10 try to take the seat over
+        for (int i = 0; i < requestCount; i++) {
+            HoldSeatsCommand command = new HoldSeatsCommand((long) (i + 2), matchId, List.of(seatId));
+
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    holdSeatsUseCase.holdSeats(command);
+                    successCount.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    // expected for losers
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(successCount.get())
+                .as("Exactly one user should take over the expired hold")
+                .isEqualTo(1);
+
+        Long holder = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM allocations WHERE match_id = ? AND seat_id = ? AND status = 'HOLD'",
+                Long.class, matchId, seatId);
+        assertThat(holder)
+                .as("The expired holder should no longer own the seat")
+                .isNotEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("When reapers run concurrently, every expired hold is released exactly once and live holds stay")
+    void concurrentReapers_releaseEachExpiredHoldOnce() throws InterruptedException {
+        // Given - seats 1..8 hold expired, seats 9..10 still held
+        int expiredCount = 8;
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            String expiresAt = i < expiredCount ? "NOW() - INTERVAL '1 minute'" : "NOW() + INTERVAL '10 minutes'";
+            jdbcTemplate.update("UPDATE allocations SET status = 'HOLD', user_id = ?, hold_expires_at = " + expiresAt
+                    + " WHERE match_id = ? AND seat_id = ?", i + 1, matchId, seatIds.get(i));
+        }
+        int reaperCount = 4;
+
+        AtomicInteger releasedCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(reaperCount);
+        ExecutorService executor = Executors.newFixedThreadPool(reaperCount);
+
+        // When - each reaper drains in small batches until nothing is left
+        for (int i = 0; i < reaperCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    int released;
+                    do {
+                        released = releaseExpiredSeatsUseCase.releaseExpiredSeats(3);
+                        releasedCount.addAndGet(released);
+                    } while (released > 0);
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then - the background scheduler may also have released some of them
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(releasedCount.get())
+                .as("No expired hold should be released twice")
+                .isLessThanOrEqualTo(expiredCount);
+        assertThat(countHeldSeats())
+                .as("Only the unexpired holds should remain")
+                .isEqualTo(SEAT_COUNT - expiredCount);
+
+        Integer releasedWithOwner = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM allocations
+                WHERE match_id = ? AND status = 'AVAILABLE' AND (user_id IS NOT NULL OR hold_expires_at IS NOT NULL)
+                """, Integer.class, matchId);
+        assertThat(releasedWithOwner)
+                .as("Released seats should not keep their former holder")
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("When users request adjacent seat assignments that fit side by side, every request gets distinct adjacent seats")
+    void concurrentAssign_disjointRequests_allSucceed() throws InterruptedException {
+        // Given - three pairs fit in a row of ten seats with room to spare
+        int requestCount = 3;
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger noSeatsCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            AssignSeatsCommand command = new AssignSeatsCommand((long) (i + 1), matchId, blockId, 2);
+
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    assignSeatsUseCase.assignSeats(command);
+                    successCount.incrementAndGet();
+                } catch (NoAdjacentSeatsAvailableException e) {
+                    noSeatsCount.incrementAndGet();
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No unexpected exceptions should occur")
+                .isNull();
+        assertThat(noSeatsCount.get())
+                .as("A concurrent assignment must not hide the free seats from the others")
+                .isZero();
+        assertThat(successCount.get())
+                .as("Every request should be assigned")
+                .isEqualTo(requestCount);
+        assertThat(countHeldSeats())
+                .as("Every successful assignment holds exactly two seats")
+                .isEqualTo(successCount.get() * 2);
+
+        List<Map<String, Object>> spans = jdbcTemplate.queryForList("""
+                SELECT a.user_id, COUNT(*)::int AS held, MAX(s.seat_number) - MIN(s.seat_number) AS span
+                FROM allocations a JOIN seats s ON s.id = a.seat_id
+                WHERE a.match_id = ? AND a.status = 'HOLD'
+                GROUP BY a.user_id
+                """, matchId);
+        assertThat(spans)
+                .as("Each user should hold two adjacent seats")
+                .allSatisfy(row -> {
+                    assertThat(((Number) row.get("held")).intValue()).isEqualTo(2);
+                    assertThat(((Number) row.get("span")).intValue()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("When overlapping confirms of the same holds run concurrently, each seat is confirmed exactly once without deadlock")
+    void concurrentConfirm_overlappingSeats_confirmsEachSeatOnce() throws InterruptedException {
+        // Given - user 1 holds six seats
+        List<Long> heldSeatIds = seatIds.subList(0, 6);
+        holdSeatsUseCase.holdSeats(new HoldSeatsCommand(1L, matchId, heldSeatIds));
+        int requestCount = 6;
+
+        AtomicInteger confirmedCount = new AtomicInteger(0);
+        AtomicReference<Exception> unexpectedException = new AtomicReference<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        // When - each request confirms an overlapping window of four seats in reverse order
+        for (int i = 0; i < requestCount; i++) {
+            List<Long> window = new ArrayList<>();
+            for (int j = 3; j >= 0; j--) {
+                window.add(heldSeatIds.get((i + j) % heldSeatIds.size()));
+            }
+            ConfirmSeatsCommand command = new ConfirmSeatsCommand(1L, matchId, window);
+
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    confirmedCount.addAndGet(confirmSeatsUseCase.confirmSeats(command).size());
+                } catch (NoSeatsToConfirmException e) {
+                    // every seat in the window was already confirmed by another request
+                } catch (Exception e) {
+                    unexpectedException.compareAndSet(null, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(unexpectedException.get())
+                .as("No deadlock or other unexpected exception should occur")
+                .isNull();
+        assertThat(confirmedCount.get())
+                .as("Each held seat should be confirmed by exactly one request")
+                .isEqualTo(heldSeatIds.size());
+
+        Integer occupiedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE match_id = ? AND status = 'OCCUPIED' AND user_id = 1",
+                Integer.class, matchId);
+        assertThat(occupiedCount).isEqualTo(heldSeatIds.size());
+    }
+
+    private int countHeldSeats() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM allocations WHERE match_id = ? AND status = 'HOLD'",
+                Integer.class, matchId);
+    }
+}
@@ -38,3 +38,59 @@ Feature: 자리 배정 - 점유와 반납
     And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
     When 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 2열 좌석 점유를 요청하면,
     Then 좌석 점유에 성공해야 한다.
+
+  Scenario: 로그인한 사용자는 여러 좌석을 한 번에 점유할 수 있다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    When 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열부터 4열까지 좌석 일괄 점유를 요청하면,
+    Then 요청한 좌석을 모두 점유해야 한다.
+
+  Scenario: 일괄 점유 요청에 다른 사용자가 점유한 좌석이 있으면 아무 좌석도 점유하지 않는다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 2열 좌석을 점유 중이다.
+    When 다른 사용자가 이메일 "another-user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열부터 3열까지 좌석 일괄 점유를 요청하면,
+    Then 좌석 점유에 실패해야 한다.
+    When 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석 점유를 요청하면,
+    Then 좌석 점유에 성공해야 한다.
+
+  Scenario: 로그인한 사용자는 구간에서 같은 행의 연속된 좌석을 자동 배정받을 수 있다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    When 사용자가 주어진 경기의 "내야-연고-1" 구역에서 좌석 3개 자동 배정을 요청하면,
+    Then 같은 행의 연속된 좌석 3개를 배정받아야 한다.
+
+  Scenario: 자동 배정은 다른 사용자가 점유 중인 좌석을 건너뛴다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 2열 좌석을 점유 중이다.
+    When 다른 사용자가 이메일 "another-user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역에서 좌석 2개 자동 배정을 요청하면,
+    Then 같은 행의 연속된 좌석 2개를 배정받아야 한다.
+    And 점유 중인 좌석은 배정되지 않아야 한다.
+
+  Scenario: 점유 시간이 만료된 좌석은 다른 사용자가 점유할 수 있다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 점유한 좌석의 점유 시간이 만료되었다.
+    When 다른 사용자가 이메일 "another-user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석 점유를 요청하면,
+    Then 좌석 점유에 성공해야 한다.
+
+  Scenario: 점유 시간이 만료된 좌석은 다른 요청이 없어도 이용 가능한 상태로 반환된다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    When 점유한 좌석의 점유 시간이 만료되었다.
+    Then 만료된 좌석은 점유가 해제되어 이용 가능한 상태가 되어야 한다.
+
+  Scenario: 로그인한 사용자는 점유 중인 좌석을 한 번에 확정할 수 있다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 2열 좌석을 점유 중이다.
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 3열 좌석을 점유 중이다.
+    When 점유 중인 좌석의 좌석 확정을 요청하면,
+    Then 점유 중인 좌석이 모두 확정되어야 한다.
+
+  Scenario: 다른 사용자가 점유 중인 좌석은 확정할 수 없다.
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    When 다른 사용자가 이메일 "another-user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석 확정을 요청하면,
+    Then 좌석 확정에 실패해야 한다.
@@ -18,3 +18,42 @@ Feature: 결제
     When 결제를 완료하면
     Then 결제 상태는 "PAID" 상태여야 한다.
     And 예약 상태는 "CONFIRMED" 상태여야 한다.
+
+  Scenario: 결제 승인이 거절되면 결제는 실패하고 예약은 대기 상태로 남는다.
+
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 점유한 좌석에 대해 예약을 요청했다.
+    And 예약에 대해 결제를 요청하면
+    And 결제 정보가 생성되어야 한다.
+
+    When 승인이 거절되는 결제 키로 결제를 완료하면
+    Then 결제 상태는 "FAILED" 상태여야 한다.
+    And 예약 상태는 "PENDING" 상태여야 한다.
+
+  Scenario: 결제 전에 좌석 점유가 만료되었으면 PG 승인 없이 결제가 거절된다.
+
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 점유한 좌석에 대해 예약을 요청했다.
+    And 예약에 대해 결제를 요청하면
+    And 결제 정보가 생성되어야 한다.
+    And 점유한 좌석의 점유 시간이 만료되었다.
+
+    When 결제를 완료하면
+    Then 결제 승인이 거절되어야 한다.
+    And 저장된 결제 상태는 "PENDING" 상태여야 한다.
+    And 예약 상태는 "PENDING" 상태여야 한다.
+
+  Scenario: 승인 후 결과 기록 전에 중단된 결제는 복구 시 PG 승인 결과로 확정된다.
+
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 점유한 좌석에 대해 예약을 요청했다.
+    And 예약에 대해 결제를 요청하면
+    And 결제 정보가 생성되어야 한다.
+    And PG 승인 이후 결과를 기록하기 전에 서버가 중단되었다.
+
+    When 미확정 결제 복구가 실행되면
+    Then 저장된 결제 상태는 "PAID" 상태여야 한다.
+    And 예약 상태는 "CONFIRMED" 상태여야 한다.
@@ -15,3 +15,24 @@ Feature: 예약
     Then 예약이 접수되어야 한다.
     And 예약 상태는 "PENDING"이어야 한다.
     And 배정 받은 각 좌석의 예약 번호와 생성된 예약 번호가 일치해야 한다.
+
+  Scenario: 점유 시간이 만료된 좌석은 예약할 수 없다.
+
+    Given 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+    And 점유한 좌석의 점유 시간이 만료되었다.
+
+    When 점유 중인 좌석에 대해 선택을 확정하면,
+    Then 예약이 거절되어야 한다.
+    And 어떤 좌석에도 예약 번호가 배정되지 않아야 한다.
+
+  Scenario: 예약 요청에 점유하지 않은 좌석이 하나라도 있으면 예약 전체가 거절된다.
+
+    Given 다른 사용자가 이메일 "another-user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 2열 좌석을 점유 중이다.
+    And 사용자가 이메일 "user@email.com"로 로그인하고,
+    And 사용자가 주어진 경기의 "내야-연고-1" 구역 1행 1열 좌석을 점유 중이다.
+
+    When 점유 중인 좌석에 대해 선택을 확정하면,
+    Then 예약이 거절되어야 한다.
+    And 어떤 좌석에도 예약 번호가 배정되지 않아야 한다.
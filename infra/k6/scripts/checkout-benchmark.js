@@ -0,0 +1,196 @@
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+/**
+ * [Checkout] 체크아웃 벤치마크 - 좌석 점유 → 예약 → 결제 요청 → 결제 승인
+ *
+ * 목적: PG 시뮬레이터(payment.mock.*) 의 지연/실패 분포에서 목표 처리율(RATE/s) 을 유지할 수 있는지,
+ *       Hikari 풀 크기에 따른 커넥션 대기 시간과 체크아웃 p99 를 측정
+ * - constant-arrival-rate: 응답이 느려져도 도착률을 유지 (부족한 VU 는 dropped_iterations 로 집계)
+ * - 반복마다 SEAT_ID_START 부터 서로 다른 좌석 하나를 사용 (좌석 경합 없이 처리량만 측정)
+ * - 커넥션 대기 시간은 시작/종료 시 /actuator/prometheus 의 hikaricp_connections_acquire_seconds 차이로 계산
+ */
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MATCH_ID = __ENV.MATCH_ID || '1';
+const SEAT_ID_START = parseInt(__ENV.SEAT_ID_START || '1');
+const RATE = parseInt(__ENV.RATE || '50');
+const DURATION = __ENV.DURATION || '2m';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '500');
+const AMOUNT = parseInt(__ENV.AMOUNT || '10000');
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const holdDuration = new Trend('checkout_hold_duration', true);
+const reserveDuration = new Trend('checkout_reserve_duration', true);
+const payRequestDuration = new Trend('checkout_pay_request_duration', true);
+const confirmDuration = new Trend('checkout_confirm_duration', true);
+const checkoutDuration = new Trend('checkout_duration', true);
+const checkoutsCompleted = new Counter('checkouts_completed');
+const checkoutsDeclined = new Counter('checkouts_declined');
+const checkoutsFailed = new Counter('checkouts_failed');
+
+export const options = {
+    scenarios: {
+        checkout: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(RATE * 2, MAX_VUS),
+            maxVUs: MAX_VUS,
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        checkout_duration: ['p(99)<5000'],
+        // PG 승인 거절(success-rate) 은 declined 로 따로 집계하고, 그 외 오류(타임아웃 포함) 만 실패로 봄
+        checkouts_failed: [`count<${Math.max(1, RATE)}`],
+    },
+};
+
+export function setup() {
+    const email = `checkout-bench-${Date.now()}@ticketing.dev`;
+    const res = http.post(`${BASE_URL}/api/users/sign-up`,
+        JSON.stringify({ email: email, password: 'password1234' }), JSON_HEADERS);
+    if (!check(res, { 'sign-up 201': (r) => r.status === 201 })) {
+        exec.test.abort(`sign-up failed: status=${res.status}`);
+    }
+
+    return {
+        userId: res.json('data.id'),
+        poolBefore: scrapeConnectionAcquire(),
+        startedAt: Date.now(),
+    };
+}
+
+export default function (data) {
+    const seatId = SEAT_ID_START + exec.scenario.iterationInTest;
+    const startedAt = Date.now();
+
+    // 1. Hold
+    let res = http.post(`${BASE_URL}/api/matches/${MATCH_ID}/allocation/seats/${seatId}/hold`,
+        JSON.stringify({ userId: data.userId }), JSON_HEADERS);
+    holdDuration.add(res.timings.duration);
+    if (!check(res, { 'hold 200': (r) => r.status === 200 })) {
+        checkoutsFailed.add(1, { step: 'hold' });
+        return;
+    }
+
+    // 2. Reserve
+    res = http.post(`${BASE_URL}/api/reservations`,
+        JSON.stringify({ userId: data.userId, matchId: Number(MATCH_ID), seatIds: [seatId] }), JSON_HEADERS);
+    reserveDuration.add(res.timings.duration);
+    if (!check(res, { 'reserve 2xx': (r) => r.status >= 200 && r.status < 300 })) {
+        checkoutsFailed.add(1, { step: 'reserve' });
+        return;
+    }
+    const reservationId = res.json('data.id');
+
+    // 3. Pay (request)
+    res = http.post(`${BASE_URL}/api/payments/request`,
+        JSON.stringify({ reservationId: reservationId, amount: AMOUNT, method: 'CARD' }), JSON_HEADERS);
+    payRequestDuration.add(res.timings.duration);
+    if (!check(res, { 'pay request 2xx': (r) => r.status >= 200 && r.status < 300 })) {
+        checkoutsFailed.add(1, { step: 'pay' });
+        return;
+    }
+    const paymentId = res.json('data.id');
+
+    // 4. Confirm (PG 승인 포함, 시뮬레이터의 승인 거절은 200 + FAILED 로 응답)
+    res = http.post(`${BASE_URL}/api/payments/confirm`,
+        JSON.stringify({
+            paymentId: paymentId,
+            paymentKey: `bench-${paymentId}`,
+            orderId: `order-${reservationId}`,
+            amount: AMOUNT,
+        }), JSON_HEADERS);
+    confirmDuration.add(res.timings.duration);
+    checkoutDuration.add(Date.now() - startedAt);
+    if (!check(res, { 'confirm 200': (r) => r.status === 200 })) {
+        checkoutsFailed.add(1, { step: 'confirm', status: String(res.status) });
+        return;
+    }
+    if (res.json('data.status') !== 'PAID') {
+        checkoutsDeclined.add(1);
+        return;
+    }
+    checkoutsCompleted.add(1);
+}
+
+export function teardown(data) {
+    const before = data.poolBefore;
+    const after = scrapeConnectionAcquire();
+    const elapsedSeconds = (Date.now() - data.startedAt) / 1000;
+
+    if (before && after) {
+        const acquires = after.count - before.count;
+        const avgWaitMs = acquires > 0 ? ((after.sum - before.sum) / acquires) * 1000 : 0;
+        console.log(`[pool] connection acquires=${acquires}, avg wait=${avgWaitMs.toFixed(2)}ms, `
+            + `max wait (recent)=${(after.max * 1000).toFixed(2)}ms, pending now=${after.pending}`);
+    } else {
+        console.warn('[pool] /actuator/prometheus 에서 hikaricp 메트릭을 읽지 못했습니다.');
+    }
+    console.log(`[checkout] elapsed=${elapsedSeconds.toFixed(1)}s, target rate=${RATE}/s`);
+}
+
+export function handleSummary(data) {
+    const metrics = data.metrics;
+    const completed = metrics.checkouts_completed ? metrics.checkouts_completed.values.count : 0;
+    const failed = metrics.checkouts_failed ? metrics.checkouts_failed.values.count : 0;
+    const declined = metrics.checkouts_declined ? metrics.checkouts_declined.values.count : 0;
+    const dropped = metrics.dropped_iterations ? metrics.dropped_iterations.values.count : 0;
+    const elapsedSeconds = data.state.testRunDurationMs / 1000;
+    const trend = (name, stat) => (metrics[name] ? metrics[name].values[stat].toFixed(1) : '-');
+
+    const lines = [
+        '',
+        '=== Checkout Benchmark ===',
+        `target rate        : ${RATE}/s for ${DURATION}`,
+        `throughput         : ${(completed / elapsedSeconds).toFixed(2)} checkouts/s (completed=${completed}, declined=${declined}, failed=${failed}, dropped=${dropped})`,
+        `checkout p50/p99   : ${trend('checkout_duration', 'med')} / ${trend('checkout_duration', 'p(99)')} ms`,
+        `hold p99           : ${trend('checkout_hold_duration', 'p(99)')} ms`,
+        `reserve p99        : ${trend('checkout_reserve_duration', 'p(99)')} ms`,
+        `pay request p99    : ${trend('checkout_pay_request_duration', 'p(99)')} ms`,
+        `confirm p99        : ${trend('checkout_confirm_duration', 'p(99)')} ms`,
+        '(pool wait time 은 teardown 로그의 [pool] 항목 참고)',
+        '',
+    ];
+
+    return {
+        stdout: lines.join('\n'),
+        'checkout-benchmark-summary.json': JSON.stringify(data, null, 2),
+    };
+}
+
+function scrapeConnectionAcquire() {
+    const res = http.get(`${BASE_URL}/actuator/prometheus`);
+    if (res.status !== 200) {
+        return null;
+    }
+    const read = (name) => {
+        let total = 0;
+        let found = false;
+        for (const line of res.body.split('\n')) {
+            if (line.startsWith(name + '{') || line.startsWith(name + ' ')) {
+                total += parseFloat(line.substring(line.lastIndexOf(' ') + 1));
+                found = true;
+            }
+        }
+        return found ? total : null;
+    };
+
+    const sum = read('hikaricp_connections_acquire_seconds_sum');
+    const count = read('hikaricp_connections_acquire_seconds_count');
+    if (sum === null || count === null) {
+        return null;
+    }
+    return {
+        sum: sum,
+        count: count,
+        max: read('hikaricp_connections_acquire_seconds_max') || 0,
+        pending: read('hikaricp_connections_pending') || 0,
+    };
+}